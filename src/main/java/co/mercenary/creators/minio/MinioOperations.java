@@ -25,6 +25,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -36,14 +37,20 @@ import org.springframework.lang.Nullable;
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 
 import co.mercenary.creators.minio.content.MinioContentTypeProbe;
+import co.mercenary.creators.minio.data.MinioBatchFailure;
+import co.mercenary.creators.minio.data.MinioBatchReport;
 import co.mercenary.creators.minio.data.MinioBucket;
 import co.mercenary.creators.minio.data.MinioCopyConditions;
 import co.mercenary.creators.minio.data.MinioItem;
+import co.mercenary.creators.minio.data.MinioItemSummary;
 import co.mercenary.creators.minio.data.MinioObjectStatus;
+import co.mercenary.creators.minio.data.MinioPutEntry;
+import co.mercenary.creators.minio.data.MinioPutResult;
 import co.mercenary.creators.minio.data.MinioUpload;
 import co.mercenary.creators.minio.data.MinioUserMetaData;
 import co.mercenary.creators.minio.errors.MinioDataException;
 import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.io.ArchiveFormat;
 import co.mercenary.creators.minio.util.WithDescription;
 import co.mercenary.creators.minio.util.WithServerData;
 import io.minio.ServerSideEncryption;
@@ -83,6 +90,15 @@ public interface MinioOperations extends WithDescription, WithServerData
 
     boolean deleteObject(@NonNull String bucket, @NonNull String name) throws MinioOperationException;
 
+    @NonNull
+    Stream<MinioBatchFailure> deleteObjects(@NonNull String bucket, @NonNull Stream<String> names) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport deletePrefix(@NonNull String bucket, @NonNull String prefix) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport deletePrefix(@NonNull String bucket, @NonNull String prefix, @Nullable LongConsumer progress) throws MinioOperationException;
+
     void setBucketPolicy(@NonNull String bucket, @NonNull Object policy) throws MinioOperationException, MinioDataException;
 
     @NonNull
@@ -184,6 +200,23 @@ public interface MinioOperations extends WithDescription, WithServerData
 
     void putObject(@NonNull String bucket, @NonNull String name, @NonNull URL input, @Nullable String type, @Nullable MinioUserMetaData meta) throws MinioOperationException;
 
+    /**
+     * Uploads the entries concurrently and returns their results in completion order. Uploads start when the first result is pulled; close the
+     * returned stream, for example with try-with-resources, to stop the uploads and close {@code entries} when consumption ends early.
+     */
+    @NonNull
+    Stream<MinioPutResult> putObjects(@NonNull String bucket, @NonNull Stream<MinioPutEntry> entries) throws MinioOperationException;
+
+    /**
+     * Uploads every file entry of a tar or zip archive under {@code prefix}; directories and entries that would escape the prefix are skipped. The input is read
+     * to the end of the archive but not closed, which is left to the caller.
+     */
+    @NonNull
+    MinioBatchReport putArchive(@NonNull String bucket, @NonNull String prefix, @NonNull InputStream input) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport getArchive(@NonNull String bucket, @NonNull String prefix, @NonNull OutputStream output, @NonNull ArchiveFormat format) throws MinioOperationException;
+
     boolean copyObject(@NonNull String bucket, @NonNull String name, @NonNull String target) throws MinioOperationException;
 
     boolean copyObject(@NonNull String bucket, @NonNull String name, @NonNull String target, @Nullable String object) throws MinioOperationException;
@@ -192,9 +225,28 @@ public interface MinioOperations extends WithDescription, WithServerData
 
     boolean copyObject(@NonNull String bucket, @NonNull String name, @NonNull String target, @Nullable String object, @Nullable MinioCopyConditions conditions) throws MinioOperationException;
 
+    @NonNull
+    MinioBatchReport copyPrefix(@NonNull String bucket, @NonNull String prefix, @NonNull String target) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport copyPrefix(@NonNull String bucket, @NonNull String prefix, @NonNull String target, @Nullable String rewrite) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport movePrefix(@NonNull String bucket, @NonNull String prefix, @NonNull String target) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport movePrefix(@NonNull String bucket, @NonNull String prefix, @NonNull String target, @Nullable String rewrite) throws MinioOperationException;
+
     @NonNull
     Stream<MinioItem> findItems(@NonNull String bucket, @Nullable String prefix, boolean recursive) throws MinioOperationException;
 
+    /**
+     * Lists with up to {@code prefetch} items read ahead on a background thread, or on the caller's thread when {@code prefetch} is less than one.
+     * Close the returned stream, for example with try-with-resources, so the background thread stops when consumption ends early.
+     */
+    @NonNull
+    Stream<MinioItem> findItems(@NonNull String bucket, @Nullable String prefix, boolean recursive, int prefetch) throws MinioOperationException;
+
     @NonNull
     Stream<MinioItem> findItems(@NonNull String bucket) throws MinioOperationException;
 
@@ -207,6 +259,37 @@ public interface MinioOperations extends WithDescription, WithServerData
     @NonNull
     Stream<MinioItem> findItems(@NonNull String bucket, @Nullable String prefix) throws MinioOperationException;
 
+    @NonNull
+    Stream<String> findItemNames(@NonNull String bucket, @Nullable String prefix, boolean recursive) throws MinioOperationException;
+
+    @NonNull
+    Stream<String> findItemNames(@NonNull String bucket) throws MinioOperationException;
+
+    @NonNull
+    Stream<String> findItemNames(@NonNull String bucket, boolean recursive) throws MinioOperationException;
+
+    @NonNull
+    Stream<String> findItemNames(@NonNull String bucket, @Nullable String prefix) throws MinioOperationException;
+
+    @NonNull
+    Stream<MinioItemSummary> findItemSummaries(@NonNull String bucket, @Nullable String prefix, boolean recursive) throws MinioOperationException;
+
+    /**
+     * Lists with up to {@code prefetch} items read ahead on a background thread, or on the caller's thread when {@code prefetch} is less than one.
+     * Close the returned stream, for example with try-with-resources, so the background thread stops when consumption ends early.
+     */
+    @NonNull
+    Stream<MinioItemSummary> findItemSummaries(@NonNull String bucket, @Nullable String prefix, boolean recursive, int prefetch) throws MinioOperationException;
+
+    @NonNull
+    Stream<MinioItemSummary> findItemSummaries(@NonNull String bucket) throws MinioOperationException;
+
+    @NonNull
+    Stream<MinioItemSummary> findItemSummaries(@NonNull String bucket, boolean recursive) throws MinioOperationException;
+
+    @NonNull
+    Stream<MinioItemSummary> findItemSummaries(@NonNull String bucket, @Nullable String prefix) throws MinioOperationException;
+
     @NonNull
     Stream<MinioUpload> getIncompleteUploads(@NonNull String bucket) throws MinioOperationException;
 
@@ -219,6 +302,13 @@ public interface MinioOperations extends WithDescription, WithServerData
     @NonNull
     Stream<MinioUpload> getIncompleteUploads(@NonNull String bucket, @Nullable String prefix, boolean recursive) throws MinioOperationException;
 
+    /**
+     * Lists pending uploads; when {@code sized} is false the parts of each upload are not listed to total its size, which saves a request per upload, and every
+     * upload reports a size of zero.
+     */
+    @NonNull
+    Stream<MinioUpload> getIncompleteUploads(@NonNull String bucket, @Nullable String prefix, boolean recursive, boolean sized) throws MinioOperationException;
+
     boolean removeUpload(@NonNull String bucket, @NonNull String name) throws MinioOperationException;
 
     void traceStreamOff();
@@ -230,4 +320,26 @@ public interface MinioOperations extends WithDescription, WithServerData
     void setUserMetaData(@NonNull String bucket, @NonNull String name, @Nullable MinioUserMetaData meta) throws MinioOperationException;
 
     void addUserMetaData(@NonNull String bucket, @NonNull String name, @Nullable MinioUserMetaData meta) throws MinioOperationException;
+
+    void setContentType(@NonNull String bucket, @NonNull String name, @NonNull String type) throws MinioOperationException;
+
+    boolean setContentType(@NonNull String bucket, @NonNull String name, @NonNull String type, @Nullable String etag) throws MinioOperationException;
+
+    /**
+     * Rewrites the content type of the object a status was read from, using the status instead of reading it again; returns false when the object has
+     * changed since, by etag.
+     */
+    boolean setContentType(@NonNull MinioObjectStatus status, @NonNull String type) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport setUserMetaData(@NonNull String bucket, @NonNull Stream<String> names, @Nullable MinioUserMetaData meta) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport addUserMetaData(@NonNull String bucket, @NonNull Stream<String> names, @Nullable MinioUserMetaData meta) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport setUserMetaDataPrefix(@NonNull String bucket, @NonNull String prefix, @Nullable MinioUserMetaData meta) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport addUserMetaDataPrefix(@NonNull String bucket, @NonNull String prefix, @Nullable MinioUserMetaData meta) throws MinioOperationException;
 }
\ No newline at end of file
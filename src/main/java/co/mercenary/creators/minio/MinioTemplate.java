@@ -21,6 +21,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.SequenceInputStream;
 import java.net.HttpURLConnection;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -30,11 +32,33 @@ import java.nio.file.Paths;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -43,33 +67,77 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
 import org.xmlpull.v1.XmlPullParserException;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 
 import co.mercenary.creators.minio.content.MinioContentTypeProbe;
-import co.mercenary.creators.minio.content.MinioContentTypeProbeFileTypeMapAdapter;
+import co.mercenary.creators.minio.content.MinioContentTypeProbeMimeTypesAdapter;
+import co.mercenary.creators.minio.data.MinioBatchFailure;
+import co.mercenary.creators.minio.data.MinioBatchReport;
 import co.mercenary.creators.minio.data.MinioBucket;
 import co.mercenary.creators.minio.data.MinioCopyConditions;
 import co.mercenary.creators.minio.data.MinioItem;
+import co.mercenary.creators.minio.data.MinioItemSummary;
 import co.mercenary.creators.minio.data.MinioObjectStatus;
+import co.mercenary.creators.minio.data.MinioPutEntry;
+import co.mercenary.creators.minio.data.MinioPutResult;
 import co.mercenary.creators.minio.data.MinioUpload;
 import co.mercenary.creators.minio.data.MinioUserMetaData;
 import co.mercenary.creators.minio.errors.MinioDataException;
 import co.mercenary.creators.minio.errors.MinioOperationException;
 import co.mercenary.creators.minio.errors.MinioRuntimeException;
+import co.mercenary.creators.minio.io.ArchiveEntry;
+import co.mercenary.creators.minio.io.ArchiveFormat;
+import co.mercenary.creators.minio.io.ArchiveReader;
+import co.mercenary.creators.minio.io.ArchiveWriter;
+import co.mercenary.creators.minio.io.ParallelRangeInputStream;
 import co.mercenary.creators.minio.json.JSONUtils;
+import co.mercenary.creators.minio.util.BoundedExecutor;
+import co.mercenary.creators.minio.util.CompletionIterator;
 import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.NanoTicker;
+import co.mercenary.creators.minio.util.PrefetchIterator;
+import co.mercenary.creators.minio.util.RetryingResultIterator;
 import io.minio.CopyConditions;
 import io.minio.MinioClient;
 import io.minio.ObjectStat;
+import io.minio.Result;
 import io.minio.ServerSideEncryption;
+import io.minio.errors.ErrorResponseException;
 import io.minio.errors.MinioException;
 import io.minio.http.Method;
+import io.minio.messages.DeleteError;
+import io.minio.messages.Item;
+import io.minio.messages.Upload;
 
 @JsonIgnoreType
 public class MinioTemplate implements MinioOperations
 {
+    public static final int                    DEFAULT_BATCH_THREADS = 4;
+
+    public static final int                    DEFAULT_SNIFF_SIZE = 8 * 1024;
+
+    private static final int                   DELETE_BATCH_SIZE = 1000;
+
+    private static final int                   LISTING_PREFETCH = 4;
+
+    private static final long                  MAXIMUM_COPY_SIZE = 5L * 1024L * 1024L * 1024L;
+
+    private static final int                   COPY_PART_SIZE = 16 * 1024 * 1024;
+
+    private static final int                   METADATA_RETRIES = 5;
+
+    private static final int                   ARCHIVE_BUFFER_SIZE = 8 * 1024 * 1024;
+
+    @NonNull
+    private static final String                PRECONDITION_FAILED = "PreconditionFailed";
+
+    @NonNull
+    private static final Set<String>           COPY_HEADERS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("cache-control", "content-disposition", "content-encoding", "content-language", "expires")));
+
     @NonNull
     private static final CopyConditions        COPY_CONDS = new MinioCopyConditions().setReplaceMetadataDirective().getCopyConditions();
 
@@ -92,6 +160,14 @@ public class MinioTemplate implements MinioOperations
     @NonNull
     private final AtomicReference<MinioClient> atomic_ref = new AtomicReference<>();
 
+    private volatile int                       list_tries = RetryingResultIterator.DEFAULT_RETRIES;
+
+    private volatile long                      list_sleep = RetryingResultIterator.DEFAULT_BACKOFF;
+
+    private volatile int                       batch_pool = DEFAULT_BATCH_THREADS;
+
+    private volatile int                       sniff_size;
+
     public MinioTemplate(@NonNull final String server, @Nullable final String access, @Nullable final String secret, @Nullable final String region)
     {
         this.server_url = MinioUtils.fixServerString(server);
@@ -135,14 +211,86 @@ public class MinioTemplate implements MinioOperations
 
     public void setContentTypeProbe(@Nullable final MinioContentTypeProbe type_probe)
     {
-        this.type_probe = MinioUtils.requireNonNullOrElse(type_probe, MinioContentTypeProbeFileTypeMapAdapter::instance);
+        this.type_probe = MinioUtils.requireNonNullOrElse(type_probe, MinioContentTypeProbeMimeTypesAdapter::instance);
     }
 
     @NonNull
     @Override
     public MinioContentTypeProbe getContentTypeProbe()
     {
-        return MinioUtils.requireNonNullOrElse(type_probe, MinioContentTypeProbeFileTypeMapAdapter::instance);
+        return MinioUtils.requireNonNullOrElse(type_probe, MinioContentTypeProbeMimeTypesAdapter::instance);
+    }
+
+    public void setListingRetries(final int retries)
+    {
+        this.list_tries = Math.max(0, retries);
+    }
+
+    public int getListingRetries()
+    {
+        return list_tries;
+    }
+
+    public void setListingBackoff(@NonNull final Duration backoff)
+    {
+        this.list_sleep = Math.max(0L, MinioUtils.requireNonNull(backoff).toMillis());
+    }
+
+    @NonNull
+    public Duration getListingBackoff()
+    {
+        return Duration.ofMillis(list_sleep);
+    }
+
+    public void setContentSniffing(final int bytes)
+    {
+        this.sniff_size = Math.max(0, bytes);
+    }
+
+    public int getContentSniffing()
+    {
+        return sniff_size;
+    }
+
+    public void setBatchThreads(final int threads)
+    {
+        this.batch_pool = Math.max(1, threads);
+    }
+
+    public int getBatchThreads()
+    {
+        return batch_pool;
+    }
+
+    @NonNull
+    protected Stream<Item> listObjects(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive)
+    {
+        final MinioClient client = getMinioClient();
+
+        return new RetryingResultIterator<>(() -> client.listObjects(bucket, prefix, recursive), Item::objectName, getListingRetries(), list_sleep).stream();
+    }
+
+    @NonNull
+    protected Stream<Item> listObjects(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive, final int prefetch)
+    {
+        if (prefetch < 1)
+        {
+            return listObjects(bucket, prefix, recursive);
+        }
+        final MinioClient client = getMinioClient();
+
+        return new PrefetchIterator<>(new RetryingResultIterator<>(() -> client.listObjects(bucket, prefix, recursive), Item::objectName, getListingRetries(), list_sleep), prefetch).stream();
+    }
+
+    /*
+     * A key can hold several uploads, listed in initiation order, so the upload id is part of the resume key.
+     */
+    @NonNull
+    protected Stream<Upload> listIncompleteUploads(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive, final boolean sized)
+    {
+        final MinioClient client = getMinioClient();
+
+        return new RetryingResultIterator<>(() -> sized ? client.listIncompleteUploads(bucket, prefix, recursive) : UnsizedUploadsHolder.list(client, bucket, prefix, recursive), upload -> upload.objectName() + '\0' + upload.uploadId(), getListingRetries(), list_sleep).stream();
     }
 
     @NonNull
@@ -265,6 +413,127 @@ public class MinioTemplate implements MinioOperations
         return false;
     }
 
+    @NonNull
+    @Override
+    public Stream<MinioBatchFailure> deleteObjects(@NonNull final String bucket, @NonNull final Stream<String> names) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, names);
+
+        final ConcurrentLinkedQueue<MinioBatchFailure> failures = new ConcurrentLinkedQueue<>();
+
+        try (Stream<String> keys = names)
+        {
+            deleteObjects(bucket, keys.iterator(), failures::add, count -> {
+            });
+        }
+        return failures.stream();
+    }
+
+    @NonNull
+    @Override
+    public MinioBatchReport deletePrefix(@NonNull final String bucket, @NonNull final String prefix) throws MinioOperationException
+    {
+        return deletePrefix(bucket, prefix, MinioUtils.NULL());
+    }
+
+    @NonNull
+    @Override
+    public MinioBatchReport deletePrefix(@NonNull final String bucket, @NonNull final String prefix, @Nullable final LongConsumer progress) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, prefix);
+
+        final NanoTicker tick = new NanoTicker();
+
+        final LongAdder count = new LongAdder();
+
+        final LongAdder total = new LongAdder();
+
+        final ConcurrentLinkedQueue<MinioBatchFailure> failures = new ConcurrentLinkedQueue<>();
+
+        try (Stream<String> names = listObjects(bucket, prefix, true, LISTING_PREFETCH).filter(item -> false == item.isDir()).map(Item::objectName).peek(name -> count.increment()))
+        {
+            deleteObjects(bucket, names.iterator(), failures::add, done -> {
+
+                total.add(done);
+
+                if (null != progress)
+                {
+                    progress.accept(total.sum());
+                }
+            });
+        }
+        catch (final MinioRuntimeException e)
+        {
+            throw new MinioOperationException(e);
+        }
+        return new MinioBatchReport(count.sum(), total.sum(), TimeUnit.NANOSECONDS.toMillis(tick.since()), new ArrayList<>(failures));
+    }
+
+    protected void deleteObjects(@NonNull final String bucket, @NonNull final Iterator<String> names, @NonNull final Consumer<MinioBatchFailure> failed, @NonNull final LongConsumer deleted)
+    {
+        try (BoundedExecutor pool = new BoundedExecutor(getBatchThreads()))
+        {
+            List<String> list = new ArrayList<>(DELETE_BATCH_SIZE);
+
+            while (names.hasNext())
+            {
+                list.add(names.next());
+
+                if (list.size() >= DELETE_BATCH_SIZE)
+                {
+                    final List<String> batch = list;
+
+                    pool.execute(() -> deleteObjects(bucket, batch, failed, deleted));
+
+                    list = new ArrayList<>(DELETE_BATCH_SIZE);
+                }
+            }
+            if (false == list.isEmpty())
+            {
+                final List<String> batch = list;
+
+                pool.execute(() -> deleteObjects(bucket, batch, failed, deleted));
+            }
+        }
+        catch (final RuntimeException e)
+        {
+            /*
+             * The names failed partway; batches already sent have reported their own keys by now, so
+             * record the source failure once rather than failing the keys that were never sent.
+             */
+            failed.accept(new MinioBatchFailure(bucket, e));
+        }
+    }
+
+    protected void deleteObjects(@NonNull final String bucket, @NonNull final List<String> names, @NonNull final Consumer<MinioBatchFailure> failed, @NonNull final LongConsumer deleted)
+    {
+        long count = names.size();
+
+        try
+        {
+            for (final Result<DeleteError> result : getMinioClient().removeObject(bucket, names))
+            {
+                final DeleteError error = result.get();
+
+                if (null != error)
+                {
+                    failed.accept(new MinioBatchFailure(MinioUtils.toStringOrElse(error.objectName(), bucket), String.format("%s (%s)", error.message(), error.code())));
+
+                    count--;
+                }
+            }
+        }
+        catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException | RuntimeException e)
+        {
+            for (final String name : names)
+            {
+                failed.accept(new MinioBatchFailure(name, e));
+            }
+            count = 0;
+        }
+        deleted.accept(count);
+    }
+
     @Override
     public boolean ensureBucket(@NonNull final String bucket) throws MinioOperationException
     {
@@ -399,7 +668,7 @@ public class MinioTemplate implements MinioOperations
         {
             final ObjectStat stat = getMinioClient().statObject(bucket, name);
 
-            return new MinioObjectStatus(name, bucket, stat.length(), getContentTypeProbe().getContentType(stat.contentType(), name), stat.etag(), () -> stat.createdTime(), new MinioUserMetaData(stat.httpHeaders()));
+            return new MinioObjectStatus(name, bucket, stat.length(), getContentTypeProbe().getContentType(stat.contentType(), name), stat.contentType(), stat.etag(), () -> stat.createdTime(), new MinioUserMetaData(stat.httpHeaders()), toCopyHeaders(stat, false));
         }
         catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
         {
@@ -417,7 +686,7 @@ public class MinioTemplate implements MinioOperations
         {
             final ObjectStat stat = getMinioClient().statObject(bucket, name, keys);
 
-            return new MinioObjectStatus(name, bucket, stat.length(), getContentTypeProbe().getContentType(stat.contentType(), name), stat.etag(), () -> stat.createdTime(), new MinioUserMetaData(stat.httpHeaders()));
+            return new MinioObjectStatus(name, bucket, stat.length(), getContentTypeProbe().getContentType(stat.contentType(), name), stat.contentType(), stat.etag(), () -> stat.createdTime(), new MinioUserMetaData(stat.httpHeaders()), toCopyHeaders(stat, false));
         }
         catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
         {
@@ -430,16 +699,7 @@ public class MinioTemplate implements MinioOperations
     {
         MinioUtils.isEachNonNull(bucket, name, input);
 
-        try
-        {
-            ensureBucket(bucket);
-
-            getMinioClient().putObject(bucket, name, input, getContentTypeProbe().getContentType(type, name));
-        }
-        catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
-        {
-            throw new MinioOperationException(e);
-        }
+        putObjectInputStream(bucket, name, input, MinioUtils.NULL(), type, MinioUtils.NULL(), MinioUtils.NULL());
     }
 
     @Override
@@ -460,12 +720,44 @@ public class MinioTemplate implements MinioOperations
     @NonNull
     @Override
     public Stream<MinioItem> findItems(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive) throws MinioOperationException
+    {
+        return findItems(bucket, prefix, recursive, 0);
+    }
+
+    @NonNull
+    @Override
+    public Stream<MinioItem> findItems(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive, final int prefetch) throws MinioOperationException
     {
         MinioUtils.isEachNonNull(bucket);
 
         final MinioContentTypeProbe probe = getContentTypeProbe();
 
-        return MinioUtils.getResultAsStream(getMinioClient().listObjects(bucket, prefix, recursive)).map(item -> new MinioItem(item.objectName(), bucket, item.objectSize(), !item.isDir(), item.etag(), probe.getContentType(item.objectName()), () -> item.lastModified(), item.storageClass(), this));
+        return listObjects(bucket, prefix, recursive, prefetch).map(item -> new MinioItem(item.objectName(), bucket, item.objectSize(), !item.isDir(), item.etag(), probe.getContentType(item.objectName()), () -> item.lastModified(), item.storageClass(), this));
+    }
+
+    @NonNull
+    @Override
+    public Stream<String> findItemNames(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket);
+
+        return listObjects(bucket, prefix, recursive).map(item -> item.objectName());
+    }
+
+    @NonNull
+    @Override
+    public Stream<MinioItemSummary> findItemSummaries(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive) throws MinioOperationException
+    {
+        return findItemSummaries(bucket, prefix, recursive, 0);
+    }
+
+    @NonNull
+    @Override
+    public Stream<MinioItemSummary> findItemSummaries(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive, final int prefetch) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket);
+
+        return listObjects(bucket, prefix, recursive, prefetch).map(item -> new MinioItemSummary(item.objectName(), item.objectSize(), !item.isDir(), item.etag(), item.isDir() ? MinioItemSummary.NO_TIME : item.lastModified().getTime()));
     }
 
     @Override
@@ -620,7 +912,9 @@ public class MinioTemplate implements MinioOperations
     {
         MinioUtils.isEachNonNull(bucket, name, target);
 
-        if (isObject(bucket, name))
+        final ObjectStat stat = getObjectStatNullable(bucket, name);
+
+        if ((null != stat) && (null != stat.createdTime()))
         {
             try
             {
@@ -628,7 +922,11 @@ public class MinioTemplate implements MinioOperations
                 {
                     ensureBucket(target);
                 }
-                if ((null != conditions) && (false == conditions.isEmpty()))
+                if (stat.length() > MAXIMUM_COPY_SIZE)
+                {
+                    copyObjectLarge(bucket, name, target, MinioUtils.toStringOrElse(object, name), stat, conditions);
+                }
+                else if ((null != conditions) && (false == conditions.isEmpty()))
                 {
                     getMinioClient().copyObject(bucket, name, target, (null == object) ? MinioUtils.NULL() : object, conditions.getCopyConditions());
                 }
@@ -648,61 +946,119 @@ public class MinioTemplate implements MinioOperations
 
     @NonNull
     @Override
-    public Stream<MinioUpload> getIncompleteUploads(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive) throws MinioOperationException
+    public MinioBatchReport copyPrefix(@NonNull final String bucket, @NonNull final String prefix, @NonNull final String target, @Nullable final String rewrite) throws MinioOperationException
     {
-        MinioUtils.isEachNonNull(bucket);
-
-        return MinioUtils.getResultAsStream(getMinioClient().listIncompleteUploads(bucket, prefix, recursive)).map(item -> new MinioUpload(item.objectName(), bucket, this));
+        return copyPrefix(bucket, prefix, target, rewrite, false);
     }
 
+    @NonNull
     @Override
-    public void setBucketPolicy(@NonNull final String bucket, @NonNull final Object policy) throws MinioOperationException, MinioDataException
+    public MinioBatchReport movePrefix(@NonNull final String bucket, @NonNull final String prefix, @NonNull final String target, @Nullable final String rewrite) throws MinioOperationException
     {
-        MinioUtils.isEachNonNull(bucket, policy);
+        return copyPrefix(bucket, prefix, target, rewrite, true);
+    }
 
-        try
+    @NonNull
+    protected MinioBatchReport copyPrefix(@NonNull final String bucket, @NonNull final String prefix, @NonNull final String target, @Nullable final String rewrite, final boolean move) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, prefix, target);
+
+        if ((bucket.equals(target)) && ((null == rewrite) || (rewrite.startsWith(prefix)) || (prefix.startsWith(rewrite))))
         {
-            if (policy instanceof CharSequence)
+            throw new MinioOperationException(String.format("source and target overlap bucket=(%s), prefix=(%s), rewrite=(%s).", bucket, prefix, rewrite));
+        }
+        ensureBucket(target);
+
+        final NanoTicker tick = new NanoTicker();
+
+        final LongAdder count = new LongAdder();
+
+        final LongAdder total = new LongAdder();
+
+        final ConcurrentLinkedQueue<MinioBatchFailure> failures = new ConcurrentLinkedQueue<>();
+
+        final List<String> moved = new ArrayList<>(DELETE_BATCH_SIZE);
+
+        final Consumer<String> remove = name -> {
+
+            List<String> batch = MinioUtils.NULL();
+
+            synchronized (moved)
             {
-                getMinioClient().setBucketPolicy(bucket, policy.toString());
+                if (null != name)
+                {
+                    moved.add(name);
+                }
+                if ((moved.size() >= DELETE_BATCH_SIZE) || ((null == name) && (false == moved.isEmpty())))
+                {
+                    batch = new ArrayList<>(moved);
+
+                    moved.clear();
+                }
             }
-            else
+            if (null != batch)
             {
-                getMinioClient().setBucketPolicy(bucket, JSONUtils.toJSONString(policy));
+                deleteObjects(bucket, batch, failures::add, total::add);
             }
-        }
-        catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
+        };
+        try (BoundedExecutor pool = new BoundedExecutor(getBatchThreads()); Stream<Item> items = listObjects(bucket, prefix, true, LISTING_PREFETCH))
         {
-            throw new MinioOperationException(e);
-        }
-    }
+            items.filter(item -> false == item.isDir()).forEach(item -> {
 
-    @NonNull
-    @Override
-    public <T> T getBucketPolicy(@NonNull final String bucket, @NonNull final Class<T> type) throws MinioOperationException, MinioDataException
-    {
-        MinioUtils.isEachNonNull(bucket, type);
+                count.increment();
 
-        final String policy = getBucketPolicy(bucket);
+                final String name = item.objectName();
 
-        if ((String.class == type) || (CharSequence.class == type))
-        {
-            final T value = MinioUtils.CAST(policy, type);
+                final String dest = (null == rewrite) ? name : rewrite + name.substring(prefix.length());
 
-            return MinioUtils.requireNonNull(value);
+                pool.execute(() -> {
+
+                    try
+                    {
+                        copyObjectUnchecked(bucket, name, target, dest, item.objectSize());
+
+                        if (move)
+                        {
+                            remove.accept(name);
+                        }
+                        else
+                        {
+                            total.increment();
+                        }
+                    }
+                    catch (final MinioOperationException | RuntimeException e)
+                    {
+                        failures.add(new MinioBatchFailure(name, e));
+                    }
+                });
+            });
         }
-        return JSONUtils.toJSONObject(policy, type);
+        catch (final MinioRuntimeException e)
+        {
+            throw new MinioOperationException(e);
+        }
+        finally
+        {
+            if (move)
+            {
+                remove.accept(MinioUtils.NULL());
+            }
+        }
+        return new MinioBatchReport(count.sum(), total.sum(), TimeUnit.NANOSECONDS.toMillis(tick.since()), new ArrayList<>(failures));
     }
 
-    @NonNull
-    @Override
-    public String getBucketPolicy(@NonNull final String bucket) throws MinioOperationException
+    protected void copyObjectUnchecked(@NonNull final String bucket, @NonNull final String name, @NonNull final String target, @NonNull final String object, final long size) throws MinioOperationException
     {
-        MinioUtils.isEachNonNull(bucket);
-
         try
         {
-            return MinioUtils.requireNonNull(getMinioClient().getBucketPolicy(bucket));
+            if (size > MAXIMUM_COPY_SIZE)
+            {
+                copyObjectLarge(bucket, name, target, object, getMinioClient().statObject(bucket, name), MinioUtils.NULL());
+            }
+            else
+            {
+                getMinioClient().copyObject(bucket, name, target, object);
+            }
         }
         catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
         {
@@ -710,31 +1066,211 @@ public class MinioTemplate implements MinioOperations
         }
     }
 
-    @Override
-    public boolean removeUpload(@NonNull final String bucket, @NonNull final String name) throws MinioOperationException
+    protected void copyObjectLarge(@NonNull final String bucket, @NonNull final String name, @NonNull final String target, @NonNull final String object, @NonNull final ObjectStat stat, @Nullable final MinioCopyConditions conditions) throws MinioOperationException
     {
-        MinioUtils.isEachNonNull(bucket, name);
+        if ((bucket.equals(target)) && (name.equals(object)))
+        {
+            throw new MinioOperationException(String.format("cannot copy over itself above (%s) bytes bucket=(%s), name=(%s).", MAXIMUM_COPY_SIZE, bucket, name));
+        }
+        if ((null != conditions) && (false == isCopyConditionsMet(conditions.getCopyConditions().getConditions(), stat)))
+        {
+            throw new MinioOperationException(String.format("copy precondition failed bucket=(%s), name=(%s).", bucket, name));
+        }
+        final Map<String, String> head = toCopyHeaders(stat, true);
 
-        try
+        /*
+         * The range reads get their own pool sized by the batch threads rather than the caller's pool:
+         * copyPrefix() runs this inside one of its own tasks, and waiting there on the same bounded pool could deadlock.
+         */
+        try (InputStream input = new ParallelRangeInputStream((skip, leng) -> getObjectInputStream(bucket, name, skip, leng), stat.length(), COPY_PART_SIZE, getBatchThreads()))
         {
-            getMinioClient().removeIncompleteUpload(bucket, name);
+            getMinioClient().putObject(target, object, input, stat.length(), head);
 
-            return true;
+            final ObjectStat last = getMinioClient().statObject(bucket, name);
+
+            if (false == Objects.equals(MinioUtils.toETagSequence(last.etag()), MinioUtils.toETagSequence(stat.etag())))
+            {
+                getMinioClient().removeObject(target, object);
+
+                throw new MinioOperationException(String.format("source changed during copy bucket=(%s), name=(%s).", bucket, name));
+            }
         }
-        catch (final MinioException | NoSuchAlgorithmException | IOException | XmlPullParserException | InvalidKeyException e)
+        catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
         {
             throw new MinioOperationException(e);
         }
     }
 
     @NonNull
-    @Override
-    public MinioUserMetaData getUserMetaData(@NonNull final String bucket, @NonNull final String name) throws MinioOperationException
+    protected static Map<String, String> toCopyHeaders(@NonNull final ObjectStat stat, final boolean meta)
     {
-        MinioUtils.isEachNonNull(bucket, name);
+        final Map<String, String> head = new LinkedHashMap<>();
 
-        try
-        {
+        stat.httpHeaders().forEach((key, list) -> {
+
+            if ((null != key) && (null != list) && (false == list.isEmpty()))
+            {
+                final String low = key.toLowerCase();
+
+                if ((COPY_HEADERS.contains(low)) || ((meta) && (MinioUtils.isAmazonMetaPrefix(low))))
+                {
+                    head.put(key, list.get(0));
+                }
+            }
+        });
+        head.put("Content-Type", MinioUtils.fixContentType(stat.contentType()));
+
+        return head;
+    }
+
+    protected static boolean isCopyConditionsMet(@NonNull final Map<String, String> conditions, @NonNull final ObjectStat stat)
+    {
+        final String etag = MinioUtils.toETagSequence(stat.etag());
+
+        final String match = conditions.get("x-amz-copy-source-if-match");
+
+        if ((null != match) && (false == MinioUtils.toETagSequence(match).equals(etag)))
+        {
+            return false;
+        }
+        final String none = conditions.get("x-amz-copy-source-if-none-match");
+
+        if ((null != none) && (MinioUtils.toETagSequence(none).equals(etag)))
+        {
+            return false;
+        }
+        final Date time = stat.createdTime();
+
+        final String modified = conditions.get("x-amz-copy-source-if-modified-since");
+
+        if ((null != modified) && (null != time) && (false == time.toInstant().isAfter(toHeaderInstant(modified))))
+        {
+            return false;
+        }
+        final String unmodified = conditions.get("x-amz-copy-source-if-unmodified-since");
+
+        if ((null != unmodified) && (null != time) && (time.toInstant().isAfter(toHeaderInstant(unmodified))))
+        {
+            return false;
+        }
+        return true;
+    }
+
+    @NonNull
+    private static Instant toHeaderInstant(@NonNull final String value)
+    {
+        return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+    }
+
+    @Nullable
+    private ObjectStat getObjectStatNullable(@NonNull final String bucket, @NonNull final String name)
+    {
+        try
+        {
+            return getMinioClient().statObject(bucket, name);
+        }
+        catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
+        {
+            return MinioUtils.NULL();
+        }
+    }
+
+    @NonNull
+    @Override
+    public Stream<MinioUpload> getIncompleteUploads(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive) throws MinioOperationException
+    {
+        return getIncompleteUploads(bucket, prefix, recursive, true);
+    }
+
+    @NonNull
+    @Override
+    public Stream<MinioUpload> getIncompleteUploads(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive, final boolean sized) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket);
+
+        return listIncompleteUploads(bucket, prefix, recursive, sized).map(item -> new MinioUpload(item.objectName(), bucket, item.uploadId(), item.aggregatedPartSize(), () -> item.initiated(), this));
+    }
+
+    @Override
+    public void setBucketPolicy(@NonNull final String bucket, @NonNull final Object policy) throws MinioOperationException, MinioDataException
+    {
+        MinioUtils.isEachNonNull(bucket, policy);
+
+        try
+        {
+            if (policy instanceof CharSequence)
+            {
+                getMinioClient().setBucketPolicy(bucket, policy.toString());
+            }
+            else
+            {
+                getMinioClient().setBucketPolicy(bucket, JSONUtils.toJSONString(policy));
+            }
+        }
+        catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
+        {
+            throw new MinioOperationException(e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public <T> T getBucketPolicy(@NonNull final String bucket, @NonNull final Class<T> type) throws MinioOperationException, MinioDataException
+    {
+        MinioUtils.isEachNonNull(bucket, type);
+
+        final String policy = getBucketPolicy(bucket);
+
+        if ((String.class == type) || (CharSequence.class == type))
+        {
+            final T value = MinioUtils.CAST(policy, type);
+
+            return MinioUtils.requireNonNull(value);
+        }
+        return JSONUtils.toJSONObject(policy, type);
+    }
+
+    @NonNull
+    @Override
+    public String getBucketPolicy(@NonNull final String bucket) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket);
+
+        try
+        {
+            return MinioUtils.requireNonNull(getMinioClient().getBucketPolicy(bucket));
+        }
+        catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
+        {
+            throw new MinioOperationException(e);
+        }
+    }
+
+    @Override
+    public boolean removeUpload(@NonNull final String bucket, @NonNull final String name) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, name);
+
+        try
+        {
+            getMinioClient().removeIncompleteUpload(bucket, name);
+
+            return true;
+        }
+        catch (final MinioException | NoSuchAlgorithmException | IOException | XmlPullParserException | InvalidKeyException e)
+        {
+            throw new MinioOperationException(e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public MinioUserMetaData getUserMetaData(@NonNull final String bucket, @NonNull final String name) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, name);
+
+        try
+        {
             return new MinioUserMetaData(getMinioClient().statObject(bucket, name).httpHeaders());
         }
         catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
@@ -765,7 +1301,253 @@ public class MinioTemplate implements MinioOperations
 
         if ((null != meta) && (false == meta.isEmpty()))
         {
-            setUserMetaData(bucket, name, getUserMetaData(bucket, name).add(meta));
+            rewriteUserMetaData(bucket, name, meta, true);
+        }
+    }
+
+    @Override
+    public void setContentType(@NonNull final String bucket, @NonNull final String name, @NonNull final String type) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, name, type);
+
+        rewriteContentType(bucket, name, type, MinioUtils.NULL());
+    }
+
+    @Override
+    public boolean setContentType(@NonNull final String bucket, @NonNull final String name, @NonNull final String type, @Nullable final String etag) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, name, type);
+
+        return rewriteContentType(bucket, name, type, etag);
+    }
+
+    @Override
+    public boolean setContentType(@NonNull final MinioObjectStatus status, @NonNull final String type) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(status, type);
+
+        if (status.getCopyHeaders().isEmpty())
+        {
+            return rewriteContentType(status.getBucket(), status.getName(), type, status.getEtag());
+        }
+        final Map<String, String> head = new LinkedHashMap<>(status.getCopyHeaders());
+
+        head.putAll(new MinioUserMetaData().add(status.getUserMetaData()).getUserMetaData());
+
+        return rewriteContentType(status.getBucket(), status.getName(), type, status.getEtag(), status.getSize(), head);
+    }
+
+    @NonNull
+    @Override
+    public MinioBatchReport setUserMetaData(@NonNull final String bucket, @NonNull final Stream<String> names, @Nullable final MinioUserMetaData meta) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, names);
+
+        try (Stream<String> keys = names)
+        {
+            return rewriteUserMetaData(bucket, keys.iterator(), meta, false);
+        }
+    }
+
+    @NonNull
+    @Override
+    public MinioBatchReport addUserMetaData(@NonNull final String bucket, @NonNull final Stream<String> names, @Nullable final MinioUserMetaData meta) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, names);
+
+        try (Stream<String> keys = names)
+        {
+            return rewriteUserMetaData(bucket, keys.iterator(), meta, true);
+        }
+    }
+
+    @NonNull
+    @Override
+    public MinioBatchReport setUserMetaDataPrefix(@NonNull final String bucket, @NonNull final String prefix, @Nullable final MinioUserMetaData meta) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, prefix);
+
+        try (Stream<String> keys = listObjects(bucket, prefix, true, LISTING_PREFETCH).filter(item -> false == item.isDir()).map(Item::objectName))
+        {
+            return rewriteUserMetaData(bucket, keys.iterator(), meta, false);
+        }
+    }
+
+    @NonNull
+    @Override
+    public MinioBatchReport addUserMetaDataPrefix(@NonNull final String bucket, @NonNull final String prefix, @Nullable final MinioUserMetaData meta) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, prefix);
+
+        try (Stream<String> keys = listObjects(bucket, prefix, true, LISTING_PREFETCH).filter(item -> false == item.isDir()).map(Item::objectName))
+        {
+            return rewriteUserMetaData(bucket, keys.iterator(), meta, true);
+        }
+    }
+
+    @NonNull
+    protected MinioBatchReport rewriteUserMetaData(@NonNull final String bucket, @NonNull final Iterator<String> names, @Nullable final MinioUserMetaData meta, final boolean merge) throws MinioOperationException
+    {
+        final NanoTicker tick = new NanoTicker();
+
+        final LongAdder count = new LongAdder();
+
+        final LongAdder total = new LongAdder();
+
+        final ConcurrentLinkedQueue<MinioBatchFailure> failures = new ConcurrentLinkedQueue<>();
+
+        try (BoundedExecutor pool = new BoundedExecutor(getBatchThreads()))
+        {
+            while (names.hasNext())
+            {
+                final String name = names.next();
+
+                count.increment();
+
+                pool.execute(() -> {
+
+                    try
+                    {
+                        rewriteUserMetaData(bucket, name, meta, merge);
+
+                        total.increment();
+                    }
+                    catch (final MinioOperationException | RuntimeException e)
+                    {
+                        failures.add(new MinioBatchFailure(name, e));
+                    }
+                });
+            }
+        }
+        catch (final MinioRuntimeException e)
+        {
+            throw new MinioOperationException(e);
+        }
+        return new MinioBatchReport(count.sum(), total.sum(), TimeUnit.NANOSECONDS.toMillis(tick.since()), new ArrayList<>(failures));
+    }
+
+    protected void rewriteUserMetaData(@NonNull final String bucket, @NonNull final String name, @Nullable final MinioUserMetaData meta, final boolean merge) throws MinioOperationException
+    {
+        for (int tries = 0;; tries++)
+        {
+            try
+            {
+                final ObjectStat stat = getMinioClient().statObject(bucket, name);
+
+                if (stat.length() > MAXIMUM_COPY_SIZE)
+                {
+                    throw new MinioOperationException(String.format("object too large for metadata rewrite bucket=(%s), name=(%s).", bucket, name));
+                }
+                final Map<String, String> head = toCopyHeaders(stat, false);
+
+                if (merge)
+                {
+                    head.putAll(new MinioUserMetaData(stat.httpHeaders()).add(meta).getUserMetaData());
+                }
+                else if (null != meta)
+                {
+                    head.putAll(meta.getUserMetaData());
+                }
+                final MinioCopyConditions cond = new MinioCopyConditions().setReplaceMetadataDirective().setMatchETag(stat.etag());
+
+                getMinioClient().copyObject(bucket, name, bucket, MinioUtils.NULL(), cond.getCopyConditions(), head);
+
+                return;
+            }
+            catch (final ErrorResponseException e)
+            {
+                if ((tries >= METADATA_RETRIES) || (false == PRECONDITION_FAILED.equals(e.errorResponse().code())))
+                {
+                    throw new MinioOperationException(e);
+                }
+            }
+            catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException | MinioDataException e)
+            {
+                throw new MinioOperationException(e);
+            }
+            try
+            {
+                TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(10L, 50L << Math.min(tries, 6)));
+            }
+            catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new MinioOperationException(e);
+            }
+        }
+    }
+
+    /*
+     * Unlike the metadata rewrites this does not retry: when an etag is given the caller has already looked at that version of the object, so any change since is reported as false rather than overwritten.
+     */
+    protected boolean rewriteContentType(@NonNull final String bucket, @NonNull final String name, @NonNull final String type, @Nullable final String etag) throws MinioOperationException
+    {
+        final ObjectStat stat;
+
+        try
+        {
+            stat = getMinioClient().statObject(bucket, name);
+        }
+        catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
+        {
+            throw new MinioOperationException(e);
+        }
+        if ((null != etag) && (false == MinioUtils.toETagSequence(etag).equals(MinioUtils.toETagSequence(stat.etag()))))
+        {
+            return false;
+        }
+        final Map<String, String> head = toCopyHeaders(stat, false);
+
+        head.putAll(new MinioUserMetaData(stat.httpHeaders()).getUserMetaData());
+
+        if (rewriteContentType(bucket, name, type, stat.etag(), stat.length(), head))
+        {
+            return true;
+        }
+        if (null != etag)
+        {
+            return false;
+        }
+        throw new MinioOperationException(String.format("object changed during content type rewrite bucket=(%s), name=(%s).", bucket, name));
+    }
+
+    /*
+     * The copy is conditional on the etag the headers were read with, so a precondition failure means the object changed since and is reported as false.
+     */
+    protected boolean rewriteContentType(@NonNull final String bucket, @NonNull final String name, @NonNull final String type, @Nullable final String etag, final long size, @NonNull final Map<String, String> head) throws MinioOperationException
+    {
+        if (size > MAXIMUM_COPY_SIZE)
+        {
+            throw new MinioOperationException(String.format("object too large for content type rewrite bucket=(%s), name=(%s).", bucket, name));
+        }
+        final Map<String, String> copy = new LinkedHashMap<>(head);
+
+        copy.put("Content-Type", MinioUtils.fixContentType(type));
+
+        try
+        {
+            final MinioCopyConditions cond = new MinioCopyConditions().setReplaceMetadataDirective();
+
+            if (null != etag)
+            {
+                cond.setMatchETag(etag);
+            }
+            getMinioClient().copyObject(bucket, name, bucket, MinioUtils.NULL(), cond.getCopyConditions(), copy);
+
+            return true;
+        }
+        catch (final ErrorResponseException e)
+        {
+            if ((null != etag) && (PRECONDITION_FAILED.equals(e.errorResponse().code())))
+            {
+                return false;
+            }
+            throw new MinioOperationException(e);
+        }
+        catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException | MinioDataException e)
+        {
+            throw new MinioOperationException(e);
         }
     }
 
@@ -820,21 +1602,288 @@ public class MinioTemplate implements MinioOperations
     {
         MinioUtils.isEachNonNull(bucket, name, input);
 
+        ensureBucket(bucket);
+
+        putObjectUnchecked(bucket, name, input, size, type, meta, keys);
+    }
+
+    @NonNull
+    @Override
+    public Stream<MinioPutResult> putObjects(@NonNull final String bucket, @NonNull final Stream<MinioPutEntry> entries) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, entries);
+
+        ensureBucket(bucket);
+
+        final int threads = getBatchThreads();
+
+        return new CompletionIterator<MinioPutResult>(publish -> {
+
+            try (Stream<MinioPutEntry> list = entries; BoundedExecutor pool = new BoundedExecutor(threads))
+            {
+                list.forEach(entry -> pool.execute(() -> publish.accept(putObjectEntry(bucket, entry))));
+            }
+        }, threads * 2).stream().onClose(entries::close);
+    }
+
+    @NonNull
+    @Override
+    public MinioBatchReport putArchive(@NonNull final String bucket, @NonNull final String prefix, @NonNull final InputStream input) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, prefix, input);
+
+        ensureBucket(bucket);
+
+        final NanoTicker tick = new NanoTicker();
+
+        final LongAdder count = new LongAdder();
+
+        final LongAdder total = new LongAdder();
+
+        final ConcurrentLinkedQueue<MinioBatchFailure> failures = new ConcurrentLinkedQueue<>();
+
+        try (ArchiveReader reader = ArchiveReader.open(StreamUtils.nonClosing(input)); BoundedExecutor pool = new BoundedExecutor(getBatchThreads()))
+        {
+            ArchiveEntry entry;
+
+            while (null != (entry = reader.next()))
+            {
+                final String path = StringUtils.trimLeadingCharacter(MinioUtils.fixPathString(entry.getName()), '/');
+
+                if ((false == entry.isFile()) || (path.isEmpty()) || (path.startsWith("../")))
+                {
+                    continue;
+                }
+                final String name = prefix + path;
+
+                final InputStream data = reader.getInputStream();
+
+                final byte[] head = MinioUtils.readInputStream(data, (int) (entry.isSizeKnown() ? Math.min(entry.getSize(), ARCHIVE_BUFFER_SIZE + 1L) : ARCHIVE_BUFFER_SIZE + 1L));
+
+                count.increment();
+
+                if (head.length <= ARCHIVE_BUFFER_SIZE)
+                {
+                    pool.execute(() -> {
+
+                        try
+                        {
+                            putObjectUnchecked(bucket, name, new ByteArrayInputStream(head), Long.valueOf(head.length), MinioUtils.NULL(), MinioUtils.NULL(), MinioUtils.NULL());
+
+                            total.increment();
+                        }
+                        catch (final MinioOperationException | RuntimeException e)
+                        {
+                            failures.add(new MinioBatchFailure(name, e));
+                        }
+                    });
+                    continue;
+                }
+                try
+                {
+                    putObjectUnchecked(bucket, name, new SequenceInputStream(new ByteArrayInputStream(head), data), entry.isSizeKnown() ? Long.valueOf(entry.getSize()) : MinioUtils.NULL(), MinioUtils.NULL(), MinioUtils.NULL(), MinioUtils.NULL());
+
+                    total.increment();
+                }
+                catch (final MinioOperationException | RuntimeException e)
+                {
+                    failures.add(new MinioBatchFailure(name, e));
+                }
+            }
+        }
+        catch (final IOException e)
+        {
+            throw new MinioOperationException(e);
+        }
+        return new MinioBatchReport(count.sum(), total.sum(), TimeUnit.NANOSECONDS.toMillis(tick.since()), new ArrayList<>(failures));
+    }
+
+    @NonNull
+    @Override
+    public MinioBatchReport getArchive(@NonNull final String bucket, @NonNull final String prefix, @NonNull final OutputStream output, @NonNull final ArchiveFormat format) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(bucket, prefix, output, format);
+
+        final NanoTicker tick = new NanoTicker();
+
+        final LongAdder count = new LongAdder();
+
+        final LongAdder total = new LongAdder();
+
+        final ConcurrentLinkedQueue<MinioBatchFailure> failures = new ConcurrentLinkedQueue<>();
+
+        final int threads = getBatchThreads();
+
+        final Deque<ArchivePart> pending = new ArrayDeque<>(threads * 2);
+
+        try (Stream<Item> items = listObjects(bucket, prefix, true, LISTING_PREFETCH); BoundedExecutor pool = new BoundedExecutor(threads))
+        {
+            final ArchiveWriter writer = ArchiveWriter.open(output, format);
+
+            final Iterator<Item> iter = items.filter(item -> (false == item.isDir()) && (item.objectName().length() > prefix.length())).iterator();
+
+            while ((iter.hasNext()) || (false == pending.isEmpty()))
+            {
+                while ((iter.hasNext()) && (pending.size() < (threads * 2)))
+                {
+                    final Item item = iter.next();
+
+                    count.increment();
+
+                    final String name = item.objectName();
+
+                    if (item.objectSize() > ARCHIVE_BUFFER_SIZE)
+                    {
+                        pending.add(new ArchivePart(item, CompletableFuture.completedFuture(MinioUtils.NULL())));
+                    }
+                    else
+                    {
+                        pending.add(new ArchivePart(item, pool.submit(() -> {
+
+                            try (InputStream data = getObjectInputStream(bucket, name))
+                            {
+                                final byte[] read = MinioUtils.readInputStream(data, (int) (item.objectSize() + 1L));
+
+                                if (read.length != item.objectSize())
+                                {
+                                    throw new MinioOperationException(String.format("object (%s) changed size during export.", name));
+                                }
+                                return read;
+                            }
+                        })));
+                    }
+                }
+                final ArchivePart part = pending.poll();
+
+                final String name = part.item.objectName();
+
+                final byte[] data;
+
+                try
+                {
+                    data = part.data.join();
+                }
+                catch (final CompletionException e)
+                {
+                    failures.add(new MinioBatchFailure(name, MinioUtils.requireNonNullOrElse(e.getCause(), e)));
+
+                    continue;
+                }
+                final String path = name.substring(prefix.length());
+
+                final long time = part.item.lastModified().getTime();
+
+                if (null != data)
+                {
+                    writer.putEntry(path, data.length, time).write(data);
+
+                    writer.closeEntry();
+                }
+                else
+                {
+                    final InputStream open;
+
+                    try
+                    {
+                        open = getObjectInputStream(bucket, name);
+                    }
+                    catch (final MinioOperationException | RuntimeException e)
+                    {
+                        failures.add(new MinioBatchFailure(name, e));
+
+                        continue;
+                    }
+                    try (InputStream is = open)
+                    {
+                        StreamUtils.copy(is, writer.putEntry(path, part.item.objectSize(), time));
+                    }
+                    writer.closeEntry();
+                }
+                total.increment();
+            }
+            writer.finish();
+        }
+        catch (final IOException | RuntimeException e)
+        {
+            throw new MinioOperationException(e);
+        }
+        return new MinioBatchReport(count.sum(), total.sum(), TimeUnit.NANOSECONDS.toMillis(tick.since()), new ArrayList<>(failures));
+    }
+
+    protected static final class ArchivePart
+    {
+        @NonNull
+        private final Item                      item;
+
+        @NonNull
+        private final CompletableFuture<byte[]> data;
+
+        protected ArchivePart(@NonNull final Item item, @NonNull final CompletableFuture<byte[]> data)
+        {
+            this.item = item;
+
+            this.data = data;
+        }
+    }
+
+    @NonNull
+    protected MinioPutResult putObjectEntry(@NonNull final String bucket, @NonNull final MinioPutEntry entry)
+    {
+        final NanoTicker tick = new NanoTicker();
+
+        final String name = entry.getName();
+
+        final byte[] data = entry.getContent();
+
+        try (ByteArrayInputStream is = new ByteArrayInputStream(data))
+        {
+            putObjectUnchecked(bucket, name, is, Long.valueOf(data.length), entry.getContentType(), entry.getUserMetaData(), MinioUtils.NULL());
+
+            return new MinioPutResult(name, data.length, TimeUnit.NANOSECONDS.toMillis(tick.since()));
+        }
+        catch (final MinioOperationException | IOException | RuntimeException e)
+        {
+            return new MinioPutResult(name, data.length, TimeUnit.NANOSECONDS.toMillis(tick.since()), new MinioBatchFailure(name, e));
+        }
+    }
+
+    protected void putObjectUnchecked(@NonNull final String bucket, @NonNull final String name, @NonNull final InputStream input, @Nullable final Long size, @Nullable final String type, @Nullable final MinioUserMetaData meta, @Nullable final ServerSideEncryption keys) throws MinioOperationException
+    {
         try
         {
-            ensureBucket(bucket);
+            InputStream send = input;
+
+            String kind = getContentTypeProbe().getContentType(type, name);
+
+            final int most = getContentSniffing();
+
+            if ((most > 0) && ((null == type) || (type.trim().isEmpty())) && (kind.equals(MinioUtils.getDefaultContentType())))
+            {
+                final PushbackInputStream push = new PushbackInputStream(input, most);
 
+                final byte[] peek = MinioUtils.readInputStream(push, (null == size) ? most : (int) Math.min(most, size.longValue()));
+
+                push.unread(peek);
+
+                final String find = getContentTypeProbe().getContentType(peek);
+
+                if ((null != find) && (false == find.isEmpty()))
+                {
+                    kind = find;
+                }
+                send = push;
+            }
             if (null != size)
             {
                 final Map<String, String> head = MinioUtils.toHeaderMap(meta);
 
-                head.put("Content-Type", getContentTypeProbe().getContentType(type, name));
+                head.put("Content-Type", kind);
 
-                getMinioClient().putObject(bucket, name, input, size, head);
+                getMinioClient().putObject(bucket, name, send, size, head);
             }
             else
             {
-                getMinioClient().putObject(bucket, name, input, getContentTypeProbe().getContentType(type, name));
+                getMinioClient().putObject(bucket, name, send, kind);
 
                 if ((null != meta) && (false == meta.isEmpty()))
                 {
@@ -944,6 +1993,20 @@ public class MinioTemplate implements MinioOperations
         return copyObject(bucket, name, target, object, MinioUtils.NULL());
     }
 
+    @NonNull
+    @Override
+    public MinioBatchReport copyPrefix(@NonNull final String bucket, @NonNull final String prefix, @NonNull final String target) throws MinioOperationException
+    {
+        return copyPrefix(bucket, prefix, target, MinioUtils.NULL());
+    }
+
+    @NonNull
+    @Override
+    public MinioBatchReport movePrefix(@NonNull final String bucket, @NonNull final String prefix, @NonNull final String target) throws MinioOperationException
+    {
+        return movePrefix(bucket, prefix, target, MinioUtils.NULL());
+    }
+
     @NonNull
     @Override
     public Stream<MinioItem> findItems(@NonNull final String bucket) throws MinioOperationException
@@ -972,6 +2035,48 @@ public class MinioTemplate implements MinioOperations
         return findItems(bucket, prefix, true);
     }
 
+    @NonNull
+    @Override
+    public Stream<String> findItemNames(@NonNull final String bucket) throws MinioOperationException
+    {
+        return findItemNames(bucket, MinioUtils.NULL());
+    }
+
+    @NonNull
+    @Override
+    public Stream<String> findItemNames(@NonNull final String bucket, final boolean recursive) throws MinioOperationException
+    {
+        return findItemNames(bucket, MinioUtils.NULL(), recursive);
+    }
+
+    @NonNull
+    @Override
+    public Stream<String> findItemNames(@NonNull final String bucket, @Nullable final String prefix) throws MinioOperationException
+    {
+        return findItemNames(bucket, prefix, true);
+    }
+
+    @NonNull
+    @Override
+    public Stream<MinioItemSummary> findItemSummaries(@NonNull final String bucket) throws MinioOperationException
+    {
+        return findItemSummaries(bucket, MinioUtils.NULL());
+    }
+
+    @NonNull
+    @Override
+    public Stream<MinioItemSummary> findItemSummaries(@NonNull final String bucket, final boolean recursive) throws MinioOperationException
+    {
+        return findItemSummaries(bucket, MinioUtils.NULL(), recursive);
+    }
+
+    @NonNull
+    @Override
+    public Stream<MinioItemSummary> findItemSummaries(@NonNull final String bucket, @Nullable final String prefix) throws MinioOperationException
+    {
+        return findItemSummaries(bucket, prefix, true);
+    }
+
     @NonNull
     @Override
     public Stream<MinioUpload> getIncompleteUploads(@NonNull final String bucket) throws MinioOperationException
@@ -1132,11 +2237,11 @@ public class MinioTemplate implements MinioOperations
             {
                 final URLConnection conn = input.openConnection();
 
-                final int size = conn.getContentLength();
+                final long size = conn.getContentLengthLong();
 
                 try (final InputStream is = conn.getInputStream())
                 {
-                    putObjectInputStream(bucket, name, is, Long.valueOf(size), type, meta, MinioUtils.NULL());
+                    putObjectInputStream(bucket, name, is, (size < 0) ? MinioUtils.NULL() : Long.valueOf(size), type, meta, MinioUtils.NULL());
                 }
                 if (conn instanceof HttpURLConnection)
                 {
@@ -1149,4 +2254,48 @@ public class MinioTemplate implements MinioOperations
             }
         }
     }
+
+    /*
+     * The client's public upload listing also lists the parts of every upload to total its size, and the listing without sizes is private.
+     * It is reached reflectively only for the client class itself, so a subclass that overrides the public listing is still honoured.
+     */
+    private static final class UnsizedUploadsHolder
+    {
+        @Nullable
+        private static final java.lang.reflect.Method METHOD = getMethod();
+
+        @Nullable
+        private static java.lang.reflect.Method getMethod()
+        {
+            try
+            {
+                final java.lang.reflect.Method method = MinioClient.class.getDeclaredMethod("listIncompleteUploads", String.class, String.class, boolean.class, boolean.class);
+
+                method.setAccessible(true);
+
+                return method;
+            }
+            catch (final ReflectiveOperationException | RuntimeException e)
+            {
+                return MinioUtils.NULL();
+            }
+        }
+
+        @NonNull
+        static Iterable<Result<Upload>> list(@NonNull final MinioClient client, @NonNull final String bucket, @Nullable final String prefix, final boolean recursive)
+        {
+            if ((null != METHOD) && (MinioClient.class == client.getClass()))
+            {
+                try
+                {
+                    return MinioUtils.CAST(METHOD.invoke(client, bucket, prefix, recursive, false));
+                }
+                catch (final ReflectiveOperationException | RuntimeException e)
+                {
+                    MinioUtils.requireNonNull(e);
+                }
+            }
+            return client.listIncompleteUploads(bucket, prefix, recursive);
+        }
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package co.mercenary.creators.minio.batch;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.NonNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import co.mercenary.creators.minio.data.MinioBatchFailure;
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.json.JSONUtils;
+import co.mercenary.creators.minio.json.WithJSONOperations;
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.WithDescription;
+
+public class MinioBucketStatistics implements WithDescription, WithJSONOperations
+{
+    @NonNull
+    private final String                            bucket;
+
+    @NonNull
+    private final String                            prefix;
+
+    @NonNull
+    private final MinioStatisticsGroup              totals;
+
+    @NonNull
+    private final Map<String, MinioStatisticsGroup> prefixes;
+
+    @NonNull
+    private final Map<String, MinioStatisticsGroup> types;
+
+    @NonNull
+    private final Map<String, MinioStatisticsGroup> classes;
+
+    @NonNull
+    private final List<MinioBatchFailure>           failures;
+
+    public MinioBucketStatistics(@NonNull final String bucket, @NonNull final String prefix, @NonNull final MinioStatisticsGroup totals, @NonNull final Map<String, MinioStatisticsGroup> prefixes, @NonNull final Map<String, MinioStatisticsGroup> types, @NonNull final Map<String, MinioStatisticsGroup> classes, @NonNull final List<MinioBatchFailure> failures)
+    {
+        this.bucket = MinioUtils.requireNonNull(bucket);
+
+        this.prefix = MinioUtils.requireNonNull(prefix);
+
+        this.totals = MinioUtils.requireNonNull(totals);
+
+        this.prefixes = Collections.unmodifiableMap(MinioUtils.requireNonNull(prefixes));
+
+        this.types = Collections.unmodifiableMap(MinioUtils.requireNonNull(types));
+
+        this.classes = Collections.unmodifiableMap(MinioUtils.requireNonNull(classes));
+
+        this.failures = Collections.unmodifiableList(MinioUtils.requireNonNull(failures));
+    }
+
+    @NonNull
+    public String getBucket()
+    {
+        return bucket;
+    }
+
+    @NonNull
+    public String getPrefix()
+    {
+        return prefix;
+    }
+
+    @NonNull
+    public MinioStatisticsGroup getTotals()
+    {
+        return totals;
+    }
+
+    @NonNull
+    public Map<String, MinioStatisticsGroup> getPrefixes()
+    {
+        return prefixes;
+    }
+
+    @NonNull
+    public Map<String, MinioStatisticsGroup> getContentTypes()
+    {
+        return types;
+    }
+
+    @NonNull
+    public Map<String, MinioStatisticsGroup> getStorageClasses()
+    {
+        return classes;
+    }
+
+    @NonNull
+    public List<MinioBatchFailure> getFailures()
+    {
+        return failures;
+    }
+
+    @JsonIgnore
+    public boolean isComplete()
+    {
+        return failures.isEmpty();
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toDescription()
+    {
+        return String.format("bucket=(%s), prefix=(%s), count=(%s), bytes=(%s), complete=(%s).", getBucket(), getPrefix(), totals.getCount(), totals.getBytes(), isComplete());
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toJSONString(final boolean pretty) throws MinioDataException
+    {
+        return JSONUtils.toJSONString(this, pretty);
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+}
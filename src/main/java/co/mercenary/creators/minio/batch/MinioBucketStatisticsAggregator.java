@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package co.mercenary.creators.minio.batch;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.MinioOperations;
+import co.mercenary.creators.minio.data.MinioBatchFailure;
+import co.mercenary.creators.minio.data.MinioItem;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+import co.mercenary.creators.minio.util.BoundedExecutor;
+import co.mercenary.creators.minio.util.MinioUtils;
+
+@JsonIgnoreType
+public class MinioBucketStatisticsAggregator
+{
+    public static final int                                DEFAULT_THREADS       = 4;
+
+    public static final String                             DEFAULT_STORAGE_CLASS = "STANDARD";
+
+    @NonNull
+    private final String                                   bucket;
+
+    @NonNull
+    private final String                                   prefix;
+
+    @NonNull
+    private final Counter                                  totals                = new Counter();
+
+    @NonNull
+    private final ConcurrentHashMap<String, Counter>       prefixes              = new ConcurrentHashMap<>();
+
+    @NonNull
+    private final ConcurrentHashMap<String, Counter>       types                 = new ConcurrentHashMap<>();
+
+    @NonNull
+    private final ConcurrentHashMap<String, Counter>       classes               = new ConcurrentHashMap<>();
+
+    @NonNull
+    private final ConcurrentLinkedQueue<MinioBatchFailure> failures              = new ConcurrentLinkedQueue<>();
+
+    public MinioBucketStatisticsAggregator(@NonNull final String bucket, @Nullable final String prefix)
+    {
+        this.bucket = MinioUtils.requireNonNull(bucket);
+
+        this.prefix = MinioUtils.toStringOrElse(prefix, MinioUtils.EMPTY_STRING_VALUED);
+    }
+
+    public void add(@NonNull final MinioItem item)
+    {
+        if (false == item.isFile())
+        {
+            return;
+        }
+        final long size = item.getSize();
+
+        totals.add(size);
+
+        prefixes.computeIfAbsent(toPrefixGroup(item.getName()), key -> new Counter()).add(size);
+
+        types.computeIfAbsent(item.getContentType(), key -> new Counter()).add(size);
+
+        classes.computeIfAbsent(MinioUtils.toStringOrElse(item.getStorageClass(), DEFAULT_STORAGE_CLASS), key -> new Counter()).add(size);
+    }
+
+    public void addFailure(@NonNull final MinioBatchFailure failure)
+    {
+        failures.add(MinioUtils.requireNonNull(failure));
+    }
+
+    @NonNull
+    public MinioBucketStatistics getStatistics()
+    {
+        return new MinioBucketStatistics(bucket, prefix, totals.toGroup(), toGroups(prefixes), toGroups(types), toGroups(classes), new ArrayList<>(failures));
+    }
+
+    @NonNull
+    protected String toPrefixGroup(@NonNull final String name)
+    {
+        if (name.startsWith(prefix))
+        {
+            final int next = name.indexOf('/', prefix.length());
+
+            if (next >= 0)
+            {
+                return name.substring(0, next + 1);
+            }
+        }
+        return prefix;
+    }
+
+    @NonNull
+    public static MinioBucketStatistics collect(@NonNull final MinioOperations oper, @NonNull final String bucket, @Nullable final String prefix) throws MinioOperationException
+    {
+        return collect(oper, bucket, prefix, DEFAULT_THREADS);
+    }
+
+    @NonNull
+    public static MinioBucketStatistics collect(@NonNull final MinioOperations oper, @NonNull final String bucket, @Nullable final String prefix, final int threads) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(oper, bucket);
+
+        final MinioBucketStatisticsAggregator aggregator = new MinioBucketStatisticsAggregator(bucket, prefix);
+
+        try (BoundedExecutor pool = new BoundedExecutor(Math.max(1, threads)); Stream<MinioItem> items = oper.findItems(bucket, prefix, false))
+        {
+            items.forEach(item -> {
+
+                if (item.isFile())
+                {
+                    aggregator.add(item);
+
+                    return;
+                }
+                final String shard = item.getName();
+
+                pool.execute(() -> {
+
+                    try (Stream<MinioItem> list = oper.findItems(bucket, shard, true))
+                    {
+                        list.forEach(aggregator::add);
+                    }
+                    catch (final MinioOperationException | RuntimeException e)
+                    {
+                        aggregator.addFailure(new MinioBatchFailure(shard, e));
+                    }
+                });
+            });
+        }
+        catch (final MinioRuntimeException e)
+        {
+            throw new MinioOperationException(e);
+        }
+        return aggregator.getStatistics();
+    }
+
+    @NonNull
+    private static Map<String, MinioStatisticsGroup> toGroups(@NonNull final Map<String, Counter> counters)
+    {
+        final TreeMap<String, MinioStatisticsGroup> groups = new TreeMap<>(MinioUtils::compareKeys);
+
+        counters.forEach((key, value) -> groups.put(key, value.toGroup()));
+
+        return groups;
+    }
+
+    private static final class Counter
+    {
+        @NonNull
+        private final LongAdder count = new LongAdder();
+
+        @NonNull
+        private final LongAdder bytes = new LongAdder();
+
+        void add(final long size)
+        {
+            count.increment();
+
+            bytes.add(size);
+        }
+
+        @NonNull
+        MinioStatisticsGroup toGroup()
+        {
+            return new MinioStatisticsGroup(count.sum(), bytes.sum());
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.batch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import com.google.common.util.concurrent.RateLimiter;
+
+import co.mercenary.creators.minio.MinioOperations;
+import co.mercenary.creators.minio.content.MinioContentTypeProbe;
+import co.mercenary.creators.minio.content.MinioContentTypeProbeMimeTypesAdapter;
+import co.mercenary.creators.minio.content.tika.MinioContentTypeProbeTikaAdapter;
+import co.mercenary.creators.minio.data.MinioBatchFailure;
+import co.mercenary.creators.minio.data.MinioItem;
+import co.mercenary.creators.minio.data.MinioObjectStatus;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.util.BoundedExecutor;
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.NanoTicker;
+
+/*
+ * Probes with Tika when it is on the classpath. Without it the fallback only has URLConnection's magic-byte table, which knows
+ * little beyond common images, xml and html, so most mislabelled objects are left alone; pass a probe to do better. Objects too
+ * large to rewrite with a server-side copy are counted as skipped rather than failed.
+ */
+@JsonIgnoreType
+public class MinioContentTypeRepair implements Runnable
+{
+    public static final int                               DEFAULT_THREADS    = 4;
+
+    public static final int                               DEFAULT_SNIFF_SIZE = 8 * 1024;
+
+    public static final int                               MAXIMUM_SNIFF_SIZE = 1024 * 1024;
+
+    public static final long                              MAXIMUM_COPY_SIZE  = 5L * 1024L * 1024L * 1024L;
+
+    /*
+     * Magic bytes alone can only name the container for these, so they never replace a more specific stored type (a .docx is a zip, an .svg is xml, a .csv is text).
+     */
+    private static final Set<String>                      GENERIC_TYPES      = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("text/plain", "text/xml", "application/xml", "application/zip", "application/x-tika-ooxml", "application/x-tika-msoffice", "application/gzip", "application/x-gzip")));
+
+    @NonNull
+    private final MinioOperations                         oper;
+
+    @NonNull
+    private final String                                  bucket;
+
+    @NonNull
+    private final AtomicReference<MinioContentTypeReport> last               = new AtomicReference<>();
+
+    @Nullable
+    private String                                        prefix;
+
+    @NonNull
+    private MinioContentTypeProbe                         probe              = getDefaultContentTypeProbe();
+
+    @Nullable
+    private RateLimiter                                   limiter;
+
+    private int                                           sniff              = DEFAULT_SNIFF_SIZE;
+
+    private int                                           threads            = DEFAULT_THREADS;
+
+    private boolean                                       dry;
+
+    public MinioContentTypeRepair(@NonNull final MinioOperations oper, @NonNull final String bucket)
+    {
+        this.oper = MinioUtils.requireNonNull(oper);
+
+        this.bucket = MinioUtils.requireNonNull(bucket);
+    }
+
+    @NonNull
+    public MinioContentTypeRepair setPrefix(@Nullable final String prefix)
+    {
+        this.prefix = prefix;
+
+        return this;
+    }
+
+    @NonNull
+    public MinioContentTypeRepair setContentTypeProbe(@NonNull final MinioContentTypeProbe probe)
+    {
+        this.probe = MinioUtils.requireNonNull(probe);
+
+        return this;
+    }
+
+    @NonNull
+    public MinioContentTypeRepair setSniffSize(final int sniff)
+    {
+        this.sniff = Math.max(1, Math.min(sniff, MAXIMUM_SNIFF_SIZE));
+
+        return this;
+    }
+
+    @NonNull
+    public MinioContentTypeRepair setThreads(final int threads)
+    {
+        this.threads = Math.max(1, threads);
+
+        return this;
+    }
+
+    @NonNull
+    public MinioContentTypeRepair setBytesPerSecond(final double rate)
+    {
+        this.limiter = (rate > 0) ? RateLimiter.create(rate) : MinioUtils.NULL();
+
+        return this;
+    }
+
+    @NonNull
+    public MinioContentTypeRepair setDryRun(final boolean dry)
+    {
+        this.dry = dry;
+
+        return this;
+    }
+
+    @NonNull
+    public Optional<MinioContentTypeReport> getLastReport()
+    {
+        return MinioUtils.toOptional(last.get());
+    }
+
+    @Override
+    public void run()
+    {
+        final NanoTicker tick = new NanoTicker();
+
+        try
+        {
+            last.set(repair());
+        }
+        catch (final MinioOperationException | RuntimeException e)
+        {
+            last.set(new MinioContentTypeReport(dry, 0L, 0L, 0L, TimeUnit.NANOSECONDS.toMillis(tick.since()), new ArrayList<>(), Collections.singletonList(new MinioBatchFailure(bucket, e))));
+        }
+    }
+
+    @NonNull
+    public MinioContentTypeReport repair() throws MinioOperationException
+    {
+        final NanoTicker tick = new NanoTicker();
+
+        final LongAdder count = new LongAdder();
+
+        final LongAdder bytes = new LongAdder();
+
+        final LongAdder skipped = new LongAdder();
+
+        final ConcurrentLinkedQueue<MinioContentTypeChange> changes = new ConcurrentLinkedQueue<>();
+
+        final ConcurrentLinkedQueue<MinioBatchFailure> failures = new ConcurrentLinkedQueue<>();
+
+        try (BoundedExecutor pool = new BoundedExecutor(threads); Stream<MinioItem> items = oper.findItems(bucket, prefix, true))
+        {
+            items.filter(MinioItem::isFile).forEach(item -> {
+
+                count.increment();
+
+                pool.execute(() -> {
+
+                    final String name = item.getName();
+
+                    try
+                    {
+                        repair(name, bytes, skipped, changes, failures);
+                    }
+                    catch (final MinioOperationException | IOException | RuntimeException e)
+                    {
+                        failures.add(new MinioBatchFailure(name, e));
+                    }
+                });
+            });
+        }
+        return new MinioContentTypeReport(dry, count.sum(), skipped.sum(), bytes.sum(), TimeUnit.NANOSECONDS.toMillis(tick.since()), new ArrayList<>(changes), new ArrayList<>(failures));
+    }
+
+    protected void repair(@NonNull final String name, @NonNull final LongAdder bytes, @NonNull final LongAdder skipped, @NonNull final ConcurrentLinkedQueue<MinioContentTypeChange> changes, @NonNull final ConcurrentLinkedQueue<MinioBatchFailure> failures) throws MinioOperationException, IOException
+    {
+        final MinioObjectStatus stat = oper.getObjectStatus(bucket, name);
+
+        if (stat.getSize() > MAXIMUM_COPY_SIZE)
+        {
+            skipped.increment();
+
+            return;
+        }
+        final int most = (int) Math.min(sniff, stat.getSize());
+
+        if (most < 1)
+        {
+            return;
+        }
+        final RateLimiter rate = limiter;
+
+        if (null != rate)
+        {
+            rate.acquire(most);
+        }
+        final byte[] head;
+
+        try (InputStream input = oper.getObjectInputStream(bucket, name, 0L, most))
+        {
+            head = MinioUtils.readInputStream(input, most);
+        }
+        bytes.add(head.length);
+
+        final String find = probe.getContentType(head);
+
+        final String have = stat.getStoredContentType();
+
+        if (false == isReplaceable(have, find))
+        {
+            return;
+        }
+        final MinioContentTypeChange change = new MinioContentTypeChange(name, have, find);
+
+        if ((dry) || (oper.setContentType(stat, find)))
+        {
+            changes.add(change);
+        }
+        else
+        {
+            failures.add(new MinioBatchFailure(name, "object changed while probing."));
+        }
+    }
+
+    public static boolean isReplaceable(@NonNull final String have, @Nullable final String find)
+    {
+        final String want = toMediaType(find);
+
+        if ((want.isEmpty()) || (want.equals(MinioUtils.getDefaultContentType())))
+        {
+            return false;
+        }
+        final String base = toMediaType(have);
+
+        if (want.equals(base))
+        {
+            return false;
+        }
+        return (base.isEmpty()) || (base.equals(MinioUtils.getDefaultContentType())) || (false == GENERIC_TYPES.contains(want));
+    }
+
+    @NonNull
+    protected static String toMediaType(@Nullable final String type)
+    {
+        if (null == type)
+        {
+            return MinioUtils.EMPTY_STRING_VALUED;
+        }
+        final int semi = type.indexOf(';');
+
+        return ((semi < 0) ? type : type.substring(0, semi)).trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    @NonNull
+    public static MinioContentTypeProbe getDefaultContentTypeProbe()
+    {
+        if (ClassUtils.isPresent("org.apache.tika.Tika", MinioContentTypeRepair.class.getClassLoader()))
+        {
+            return TikaHolder.INSTANCE;
+        }
+        return MinioContentTypeProbeMimeTypesAdapter.instance();
+    }
+
+    /*
+     * Only touched once Tika is known to be present, so loading this class never fails without it.
+     */
+    private static final class TikaHolder
+    {
+        @NonNull
+        private static final MinioContentTypeProbe INSTANCE = new MinioContentTypeProbeTikaAdapter();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.batch;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.lang.NonNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import co.mercenary.creators.minio.data.MinioBatchFailure;
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.json.JSONUtils;
+import co.mercenary.creators.minio.json.WithJSONOperations;
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.WithDescription;
+
+public class MinioContentTypeReport implements WithDescription, WithJSONOperations
+{
+    private final boolean                      dry;
+
+    private final long                         scanned;
+
+    private final long                         skipped;
+
+    private final long                         bytes;
+
+    private final long                         elapsed;
+
+    @NonNull
+    private final List<MinioContentTypeChange> changes;
+
+    @NonNull
+    private final List<MinioBatchFailure>      failures;
+
+    public MinioContentTypeReport(final boolean dry, final long scanned, final long skipped, final long bytes, final long elapsed, @NonNull final List<MinioContentTypeChange> changes, @NonNull final List<MinioBatchFailure> failures)
+    {
+        this.dry = dry;
+
+        this.scanned = scanned;
+
+        this.skipped = skipped;
+
+        this.bytes = bytes;
+
+        this.elapsed = elapsed;
+
+        this.changes = Collections.unmodifiableList(MinioUtils.requireNonNull(changes));
+
+        this.failures = Collections.unmodifiableList(MinioUtils.requireNonNull(failures));
+    }
+
+    public boolean isDryRun()
+    {
+        return dry;
+    }
+
+    public long getScanned()
+    {
+        return scanned;
+    }
+
+    public long getSkipped()
+    {
+        return skipped;
+    }
+
+    public long getChanged()
+    {
+        return changes.size();
+    }
+
+    public long getFailed()
+    {
+        return failures.size();
+    }
+
+    public long getBytes()
+    {
+        return bytes;
+    }
+
+    public long getElapsed()
+    {
+        return elapsed;
+    }
+
+    @NonNull
+    public List<MinioContentTypeChange> getChanges()
+    {
+        return changes;
+    }
+
+    @NonNull
+    public List<MinioBatchFailure> getFailures()
+    {
+        return failures;
+    }
+
+    @JsonIgnore
+    public boolean isSuccessful()
+    {
+        return failures.isEmpty();
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toDescription()
+    {
+        return String.format("dryRun=(%s), scanned=(%s), skipped=(%s), changed=(%s), failed=(%s), bytes=(%s), elapsed=(%s).", isDryRun(), getScanned(), getSkipped(), getChanged(), getFailed(), getBytes(), getElapsed());
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toJSONString(final boolean pretty) throws MinioDataException
+    {
+        return JSONUtils.toJSONString(this, pretty);
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+}
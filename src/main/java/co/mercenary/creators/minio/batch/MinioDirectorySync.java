@@ -0,0 +1,457 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package co.mercenary.creators.minio.batch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.MinioOperations;
+import co.mercenary.creators.minio.data.MinioBatchFailure;
+import co.mercenary.creators.minio.data.MinioItemSummary;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+import co.mercenary.creators.minio.index.MinioItemChange;
+import co.mercenary.creators.minio.index.MinioItemDiff;
+import co.mercenary.creators.minio.util.BoundedExecutor;
+import co.mercenary.creators.minio.util.MinioUtils;
+
+@JsonIgnoreType
+public class MinioDirectorySync
+{
+    public static final int                          DEFAULT_THREADS = 4;
+
+    @NonNull
+    private final MinioOperations                    oper;
+
+    @NonNull
+    private final String                             bucket;
+
+    @NonNull
+    private final String                             prefix;
+
+    @NonNull
+    private final Path                               root;
+
+    private int                                      threads         = DEFAULT_THREADS;
+
+    private boolean                                  dry;
+
+    private boolean                                  delete;
+
+    private boolean                                  checksum        = true;
+
+    @Nullable
+    private BiConsumer<MinioSyncAction, String>      listener;
+
+    public MinioDirectorySync(@NonNull final MinioOperations oper, @NonNull final Path root, @NonNull final String bucket)
+    {
+        this(oper, root, bucket, MinioUtils.EMPTY_STRING_VALUED);
+    }
+
+    public MinioDirectorySync(@NonNull final MinioOperations oper, @NonNull final Path root, @NonNull final String bucket, @Nullable final String prefix)
+    {
+        this.oper = MinioUtils.requireNonNull(oper);
+
+        this.root = MinioUtils.requireNonNull(root);
+
+        this.bucket = MinioUtils.requireNonNull(bucket);
+
+        this.prefix = toPrefix(prefix);
+    }
+
+    @NonNull
+    public MinioDirectorySync setThreads(final int threads)
+    {
+        this.threads = Math.max(1, threads);
+
+        return this;
+    }
+
+    @NonNull
+    public MinioDirectorySync setDryRun(final boolean dry)
+    {
+        this.dry = dry;
+
+        return this;
+    }
+
+    @NonNull
+    public MinioDirectorySync setDeleteExtraneous(final boolean delete)
+    {
+        this.delete = delete;
+
+        return this;
+    }
+
+    @NonNull
+    public MinioDirectorySync setChecksum(final boolean checksum)
+    {
+        this.checksum = checksum;
+
+        return this;
+    }
+
+    @NonNull
+    public MinioDirectorySync setListener(@Nullable final BiConsumer<MinioSyncAction, String> listener)
+    {
+        this.listener = listener;
+
+        return this;
+    }
+
+    @NonNull
+    public MinioSyncReport sync() throws MinioOperationException
+    {
+        if (false == Files.isDirectory(root))
+        {
+            throw new MinioOperationException(String.format("path (%s) is not a directory.", root));
+        }
+        if (false == dry)
+        {
+            oper.ensureBucket(bucket);
+        }
+        final LongAdder uploaded = new LongAdder();
+
+        final LongAdder updated = new LongAdder();
+
+        final LongAdder deleted = new LongAdder();
+
+        final LongAdder skipped = new LongAdder();
+
+        final LongAdder bytes = new LongAdder();
+
+        final ConcurrentLinkedQueue<MinioBatchFailure> failures = new ConcurrentLinkedQueue<>();
+
+        final Stream<MinioItemSummary> remote = dry ? findRemoteOrEmpty() : oper.findItemSummaries(bucket, prefix, true);
+
+        /*
+         * Every key present on both sides is reported as modified, so the quick check and its bookkeeping happen below rather than inside the diff.
+         */
+        try (BoundedExecutor pool = new BoundedExecutor(threads); Stream<MinioItemChange> changes = MinioItemDiff.diff(remote, walk(root, prefix), (stored, local) -> false))
+        {
+            final Iterator<MinioItemChange> iter = changes.iterator();
+
+            while (iter.hasNext())
+            {
+                final MinioItemChange change = iter.next();
+
+                final String name = change.getName();
+
+                if (change.isRemoved())
+                {
+                    if (false == delete)
+                    {
+                        continue;
+                    }
+                    pool.execute(() -> {
+
+                        try
+                        {
+                            if ((false == dry) && (false == oper.deleteObject(bucket, name)))
+                            {
+                                failures.add(new MinioBatchFailure(name, "delete failed."));
+
+                                return;
+                            }
+                            deleted.increment();
+
+                            notify(MinioSyncAction.DELETE, name);
+                        }
+                        catch (final MinioOperationException | RuntimeException e)
+                        {
+                            failures.add(new MinioBatchFailure(name, e));
+                        }
+                    });
+                    continue;
+                }
+                final LocalItem local = MinioUtils.CAST(change.getAfter().get());
+
+                final MinioItemSummary stored = change.getBefore().orElse(MinioUtils.NULL());
+
+                if ((null != stored) && (isQuickCheckSame(stored, local)))
+                {
+                    skipped.increment();
+
+                    notify(MinioSyncAction.SKIP, name);
+
+                    continue;
+                }
+                pool.execute(() -> {
+
+                    try
+                    {
+                        if ((null != stored) && (isChecksumSame(stored, local)))
+                        {
+                            skipped.increment();
+
+                            notify(MinioSyncAction.SKIP, name);
+
+                            return;
+                        }
+                        if (false == dry)
+                        {
+                            oper.putObject(bucket, name, local.getPath());
+                        }
+                        bytes.add(local.getSize());
+
+                        if (null == stored)
+                        {
+                            uploaded.increment();
+
+                            notify(MinioSyncAction.UPLOAD, name);
+                        }
+                        else
+                        {
+                            updated.increment();
+
+                            notify(MinioSyncAction.UPDATE, name);
+                        }
+                    }
+                    catch (final MinioOperationException | IOException | RuntimeException e)
+                    {
+                        failures.add(new MinioBatchFailure(name, e));
+                    }
+                });
+            }
+        }
+        return new MinioSyncReport(dry, uploaded.sum(), updated.sum(), deleted.sum(), skipped.sum(), bytes.sum(), new ArrayList<>(failures));
+    }
+
+    @NonNull
+    protected Stream<MinioItemSummary> findRemoteOrEmpty() throws MinioOperationException
+    {
+        if (oper.isBucket(bucket))
+        {
+            return oper.findItemSummaries(bucket, prefix, true);
+        }
+        return Stream.empty();
+    }
+
+    protected boolean isChecksumSame(@NonNull final MinioItemSummary stored, @NonNull final LocalItem local) throws IOException
+    {
+        if ((false == checksum) || (stored.getSize() != local.getSize()))
+        {
+            return false;
+        }
+        final String etag = stored.getEtag();
+
+        if ((null == etag) || (etag.indexOf('-') >= 0))
+        {
+            return false;
+        }
+        try (InputStream input = MinioUtils.getInputStream(local.getPath()))
+        {
+            return etag.equalsIgnoreCase(DigestUtils.md5DigestAsHex(input));
+        }
+    }
+
+    protected void notify(@NonNull final MinioSyncAction action, @NonNull final String name)
+    {
+        final BiConsumer<MinioSyncAction, String> call = listener;
+
+        if (null != call)
+        {
+            call.accept(action, name);
+        }
+    }
+
+    protected static boolean isQuickCheckSame(@NonNull final MinioItemSummary stored, @NonNull final MinioItemSummary local)
+    {
+        if (stored.getSize() != local.getSize())
+        {
+            return false;
+        }
+        final long time = stored.getLastModifiedTime();
+
+        return ((MinioItemSummary.NO_TIME != time) && (local.getLastModifiedTime() <= time));
+    }
+
+    @NonNull
+    protected static String toPrefix(@Nullable final String prefix)
+    {
+        if ((null == prefix) || (prefix.isEmpty()) || (prefix.endsWith(MinioUtils.PATH_SEPARATOR_CHAR)))
+        {
+            return MinioUtils.toStringOrElse(prefix, MinioUtils.EMPTY_STRING_VALUED);
+        }
+        return prefix + MinioUtils.PATH_SEPARATOR_CHAR;
+    }
+
+    @NonNull
+    public static Stream<MinioItemSummary> walk(@NonNull final Path root, @NonNull final String prefix)
+    {
+        MinioUtils.isEachNonNull(root, prefix);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new WalkIterator(root, prefix), Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    protected static class LocalItem extends MinioItemSummary
+    {
+        @NonNull
+        private final Path path;
+
+        protected LocalItem(@NonNull final String name, @NonNull final Path path, @NonNull final BasicFileAttributes attr)
+        {
+            super(name, attr.size(), true, MinioUtils.NULL(), attr.lastModifiedTime().toMillis());
+
+            this.path = path;
+        }
+
+        @NonNull
+        public Path getPath()
+        {
+            return path;
+        }
+    }
+
+    private static final class WalkEntry
+    {
+        @NonNull
+        private final String              name;
+
+        @NonNull
+        private final Path                path;
+
+        @NonNull
+        private final BasicFileAttributes attr;
+
+        WalkEntry(@NonNull final String name, @NonNull final Path path, @NonNull final BasicFileAttributes attr)
+        {
+            this.name = name;
+
+            this.path = path;
+
+            this.attr = attr;
+        }
+    }
+
+    private static final class WalkIterator implements Iterator<MinioItemSummary>
+    {
+        @NonNull
+        private final Deque<Iterator<WalkEntry>> stack = new ArrayDeque<>();
+
+        @Nullable
+        private LocalItem                        next;
+
+        WalkIterator(@NonNull final Path root, @NonNull final String prefix)
+        {
+            stack.push(list(root, prefix));
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            while ((null == next) && (false == stack.isEmpty()))
+            {
+                final Iterator<WalkEntry> iter = stack.peek();
+
+                if (false == iter.hasNext())
+                {
+                    stack.pop();
+
+                    continue;
+                }
+                final WalkEntry entry = iter.next();
+
+                if (entry.attr.isDirectory())
+                {
+                    stack.push(list(entry.path, entry.name));
+                }
+                else
+                {
+                    next = new LocalItem(entry.name, entry.path, entry.attr);
+                }
+            }
+            return null != next;
+        }
+
+        @Override
+        public MinioItemSummary next()
+        {
+            if (false == hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            final LocalItem item = next;
+
+            next = MinioUtils.NULL();
+
+            return item;
+        }
+
+        @NonNull
+        private static Iterator<WalkEntry> list(@NonNull final Path path, @NonNull final String base)
+        {
+            final List<WalkEntry> list = new ArrayList<>();
+
+            try (DirectoryStream<Path> dirs = Files.newDirectoryStream(path))
+            {
+                for (final Path item : dirs)
+                {
+                    BasicFileAttributes attr = Files.readAttributes(item, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+
+                    if (attr.isSymbolicLink())
+                    {
+                        attr = Files.readAttributes(item, BasicFileAttributes.class);
+
+                        if (false == attr.isRegularFile())
+                        {
+                            continue;
+                        }
+                    }
+                    if (attr.isDirectory())
+                    {
+                        list.add(new WalkEntry(base + item.getFileName().toString() + MinioUtils.PATH_SEPARATOR_CHAR, item, attr));
+                    }
+                    else if (attr.isRegularFile())
+                    {
+                        list.add(new WalkEntry(base + item.getFileName().toString(), item, attr));
+                    }
+                }
+            }
+            catch (final IOException e)
+            {
+                throw new MinioRuntimeException(e);
+            }
+            list.sort((a, b) -> MinioUtils.compareKeys(a.name, b.name));
+
+            return list.iterator();
+        }
+    }
+}
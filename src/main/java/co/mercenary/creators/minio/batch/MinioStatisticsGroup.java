@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package co.mercenary.creators.minio.batch;
+
+import org.springframework.lang.NonNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.json.JSONUtils;
+import co.mercenary.creators.minio.json.WithJSONOperations;
+import co.mercenary.creators.minio.util.WithDescription;
+
+public class MinioStatisticsGroup implements WithDescription, WithJSONOperations
+{
+    private final long count;
+
+    private final long bytes;
+
+    public MinioStatisticsGroup(final long count, final long bytes)
+    {
+        this.count = count;
+
+        this.bytes = bytes;
+    }
+
+    public long getCount()
+    {
+        return count;
+    }
+
+    public long getBytes()
+    {
+        return bytes;
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toDescription()
+    {
+        return String.format("count=(%s), bytes=(%s).", getCount(), getBytes());
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toJSONString(final boolean pretty) throws MinioDataException
+    {
+        return JSONUtils.toJSONString(this, pretty);
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.batch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.MinioOperations;
+import co.mercenary.creators.minio.data.MinioBatchFailure;
+import co.mercenary.creators.minio.data.MinioBatchReport;
+import co.mercenary.creators.minio.data.MinioBucket;
+import co.mercenary.creators.minio.data.MinioUpload;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.util.BoundedExecutor;
+import co.mercenary.creators.minio.util.MinioUtils;
+
+@JsonIgnoreType
+public class MinioUploadReaper implements Runnable
+{
+    public static final int                         DEFAULT_THREADS = 4;
+
+    public static final Duration                    DEFAULT_MAX_AGE = Duration.ofDays(7);
+
+    @NonNull
+    private static final Comparator<MinioUpload>    NEWEST_FIRST    = Comparator.comparing((final MinioUpload upload) -> upload.getInitiated().map(Date::getTime).orElse(Long.MIN_VALUE)).reversed();
+
+    @NonNull
+    private final MinioOperations                   oper;
+
+    @NonNull
+    private final AtomicReference<MinioBatchReport> last            = new AtomicReference<>();
+
+    @Nullable
+    private List<String>                            buckets;
+
+    @Nullable
+    private String                                  prefix;
+
+    @NonNull
+    private Duration                                age             = DEFAULT_MAX_AGE;
+
+    private int                                     threads         = DEFAULT_THREADS;
+
+    private boolean                                 dry;
+
+    public MinioUploadReaper(@NonNull final MinioOperations oper)
+    {
+        this.oper = MinioUtils.requireNonNull(oper);
+    }
+
+    @NonNull
+    public MinioUploadReaper setBuckets(@Nullable final Collection<String> buckets)
+    {
+        this.buckets = (null == buckets) ? MinioUtils.NULL() : new ArrayList<>(buckets);
+
+        return this;
+    }
+
+    @NonNull
+    public MinioUploadReaper setPrefix(@Nullable final String prefix)
+    {
+        this.prefix = prefix;
+
+        return this;
+    }
+
+    @NonNull
+    public MinioUploadReaper setMaximumAge(@NonNull final Duration age)
+    {
+        MinioUtils.isEachNonNull(age);
+
+        if (age.isNegative())
+        {
+            throw new IllegalArgumentException(String.format("age (%s) is negative.", age));
+        }
+        this.age = age;
+
+        return this;
+    }
+
+    @NonNull
+    public MinioUploadReaper setThreads(final int threads)
+    {
+        this.threads = Math.max(1, threads);
+
+        return this;
+    }
+
+    @NonNull
+    public MinioUploadReaper setDryRun(final boolean dry)
+    {
+        this.dry = dry;
+
+        return this;
+    }
+
+    @NonNull
+    public Optional<MinioBatchReport> getLastReport()
+    {
+        return MinioUtils.toOptional(last.get());
+    }
+
+    @Override
+    public void run()
+    {
+        final long time = System.currentTimeMillis();
+
+        try
+        {
+            last.set(reap());
+        }
+        catch (final MinioOperationException | RuntimeException e)
+        {
+            last.set(new MinioBatchReport(0L, 0L, System.currentTimeMillis() - time, Collections.singletonList(new MinioBatchFailure(MinioUtils.toStringOrElse(prefix, MinioUtils.EMPTY_STRING_VALUED), e))));
+        }
+    }
+
+    @NonNull
+    public MinioBatchReport reap() throws MinioOperationException
+    {
+        final long time = System.currentTimeMillis();
+
+        final long stale = time - age.toMillis();
+
+        final LongAdder count = new LongAdder();
+
+        final LongAdder removed = new LongAdder();
+
+        final ConcurrentLinkedQueue<MinioBatchFailure> failures = new ConcurrentLinkedQueue<>();
+
+        try (BoundedExecutor pool = new BoundedExecutor(threads))
+        {
+            for (final String bucket : findBuckets())
+            {
+                final Consumer<List<MinioUpload>> reaper = group -> {
+
+                    final String name = group.get(0).getName();
+
+                    final List<String> expect = getReapable(group, stale);
+
+                    if (expect.isEmpty())
+                    {
+                        return;
+                    }
+                    count.add(expect.size());
+
+                    if (dry)
+                    {
+                        removed.add(expect.size());
+
+                        return;
+                    }
+                    pool.execute(() -> {
+
+                        for (final String upid : expect)
+                        {
+                            try
+                            {
+                                if (false == upid.equals(getAbortable(bucket, name)))
+                                {
+                                    failures.add(new MinioBatchFailure(name, String.format("pending uploads changed before abort of (%s).", upid)));
+
+                                    return;
+                                }
+                                if (false == oper.removeUpload(bucket, name))
+                                {
+                                    failures.add(new MinioBatchFailure(name, "abort failed."));
+
+                                    return;
+                                }
+                                removed.increment();
+                            }
+                            catch (final MinioOperationException | RuntimeException e)
+                            {
+                                failures.add(new MinioBatchFailure(name, e));
+
+                                return;
+                            }
+                        }
+                    });
+                };
+                try (Stream<MinioUpload> list = oper.getIncompleteUploads(bucket, prefix, true, false))
+                {
+                    final Iterator<MinioUpload> iter = list.iterator();
+
+                    List<MinioUpload> group = new ArrayList<>();
+
+                    while (iter.hasNext())
+                    {
+                        final MinioUpload upload = iter.next();
+
+                        if ((false == group.isEmpty()) && (false == group.get(0).getName().equals(upload.getName())))
+                        {
+                            reaper.accept(group);
+
+                            group = new ArrayList<>();
+                        }
+                        group.add(upload);
+                    }
+                    if (false == group.isEmpty())
+                    {
+                        reaper.accept(group);
+                    }
+                }
+                catch (final MinioOperationException | RuntimeException e)
+                {
+                    failures.add(new MinioBatchFailure(bucket, e));
+                }
+            }
+        }
+        return new MinioBatchReport(count.sum(), removed.sum(), System.currentTimeMillis() - time, new ArrayList<>(failures));
+    }
+
+    @NonNull
+    protected List<String> findBuckets() throws MinioOperationException
+    {
+        if (null != buckets)
+        {
+            return buckets;
+        }
+        try (Stream<MinioBucket> list = oper.findBuckets())
+        {
+            return list.map(MinioBucket::getName).collect(Collectors.toList());
+        }
+    }
+
+    /*
+     * The client can only abort the most recently initiated pending upload of a key, not a specific upload id, so the stale uploads of a key are
+     * aborted newest first and only down to the first one that is not stale. The listing is grouped by key, so one key is handled at a time.
+     */
+    @NonNull
+    protected static List<String> getReapable(@NonNull final List<MinioUpload> group, final long stale)
+    {
+        final List<MinioUpload> list = new ArrayList<>(group);
+
+        list.sort(NEWEST_FIRST);
+
+        final List<String> expect = new ArrayList<>();
+
+        for (final MinioUpload upload : list)
+        {
+            if ((null == upload.getUploadId()) || (false == isStale(upload, stale)))
+            {
+                break;
+            }
+            expect.add(upload.getUploadId());
+        }
+        return expect;
+    }
+
+    /*
+     * The key is listed again right before each abort, so an upload started since the first listing is never the one aborted in its place.
+     */
+    @Nullable
+    protected String getAbortable(@NonNull final String bucket, @NonNull final String name) throws MinioOperationException
+    {
+        try (Stream<MinioUpload> list = oper.getIncompleteUploads(bucket, name, true, false))
+        {
+            return list.filter(upload -> name.equals(upload.getName())).sorted(NEWEST_FIRST).findFirst().map(MinioUpload::getUploadId).orElse(MinioUtils.NULL());
+        }
+    }
+
+    protected static boolean isStale(@NonNull final MinioUpload upload, final long stale)
+    {
+        return upload.getInitiated().map(Date::getTime).map(when -> when < stale).orElse(false);
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.content;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.WithDescription;
+
+@JsonIgnoreType
+public class MinioCachingContentTypeProbe implements MinioContentTypeProbe, WithDescription
+{
+    public static final int                         DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private static final String                     NOT_FOUND            = MinioUtils.EMPTY_STRING_VALUED;
+
+    @NonNull
+    private final MinioContentTypeProbe             probe;
+
+    @NonNull
+    private final ConcurrentHashMap<String, String> cache                = new ConcurrentHashMap<>();
+
+    @NonNull
+    private final LongAdder                         hits                 = new LongAdder();
+
+    @NonNull
+    private final LongAdder                         miss                 = new LongAdder();
+
+    private final int                               most;
+
+    public MinioCachingContentTypeProbe(@NonNull final MinioContentTypeProbe probe)
+    {
+        this(probe, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public MinioCachingContentTypeProbe(@NonNull final MinioContentTypeProbe probe, final int most)
+    {
+        this.probe = MinioUtils.requireNonNull(probe);
+
+        this.most = Math.max(0, most);
+    }
+
+    @NonNull
+    public MinioContentTypeProbe getContentTypeProbe()
+    {
+        return probe;
+    }
+
+    @Nullable
+    @Override
+    public String getContentType(@Nullable final String name)
+    {
+        if ((null == name) || (name.isEmpty()))
+        {
+            return MinioUtils.NULL();
+        }
+        final String extn = getExtension(name);
+
+        if (null == extn)
+        {
+            miss.increment();
+
+            return probe.getContentType(name);
+        }
+        final String type = cache.get(extn);
+
+        if (null != type)
+        {
+            hits.increment();
+
+            return (NOT_FOUND == type) ? MinioUtils.NULL() : type;
+        }
+        miss.increment();
+
+        final String find = probe.getContentType("file." + extn);
+
+        if (cache.size() < most)
+        {
+            cache.putIfAbsent(extn, (null == find) ? NOT_FOUND : find);
+        }
+        return find;
+    }
+
+    @NonNull
+    @Override
+    public String getContentType(@Nullable final String type, @Nullable final String name)
+    {
+        final String valu = MinioUtils.toStringOrElse(type, MinioUtils.EMPTY_STRING_VALUED).trim();
+
+        final String path = MinioUtils.toStringOrElse(name, MinioUtils.EMPTY_STRING_VALUED).trim();
+
+        if (path.isEmpty())
+        {
+            return MinioUtils.getDefaultContentType();
+        }
+        final String find = getContentType(path);
+
+        if ((null == find) || (find.isEmpty()))
+        {
+            return MinioUtils.getDefaultContentType();
+        }
+        if ((find.equals(MinioUtils.getDefaultContentType())) && (valu.length() > 0))
+        {
+            return valu;
+        }
+        return find;
+    }
+
+    @Nullable
+    @Override
+    public String getContentType(@Nullable final String name, @NonNull final Supplier<String> otherwise)
+    {
+        return probe.getContentType(name, otherwise);
+    }
+
+    @Nullable
+    @Override
+    public String getContentType(@Nullable final URL link)
+    {
+        return probe.getContentType(link);
+    }
+
+    @Nullable
+    @Override
+    public String getContentType(@Nullable final URL link, final int most)
+    {
+        return probe.getContentType(link, most);
+    }
+
+    @Nullable
+    @Override
+    public String getContentType(@Nullable final Path path)
+    {
+        return probe.getContentType(path);
+    }
+
+    @Nullable
+    @Override
+    public String getContentType(@Nullable final File file)
+    {
+        return probe.getContentType(file);
+    }
+
+    @Nullable
+    @Override
+    public String getContentType(@Nullable final InputStream input)
+    {
+        return probe.getContentType(input);
+    }
+
+    @Nullable
+    @Override
+    public String getContentType(@Nullable final InputStream input, @Nullable final String type)
+    {
+        return probe.getContentType(input, type);
+    }
+
+    @Nullable
+    @Override
+    public String getContentType(@Nullable final byte[] data)
+    {
+        return probe.getContentType(data);
+    }
+
+    @Nullable
+    @Override
+    public String getContentType(@Nullable final Resource value)
+    {
+        return probe.getContentType(value);
+    }
+
+    public long getHitCount()
+    {
+        return hits.sum();
+    }
+
+    public long getMissCount()
+    {
+        return miss.sum();
+    }
+
+    public int size()
+    {
+        return cache.size();
+    }
+
+    public void clear()
+    {
+        cache.clear();
+
+        hits.reset();
+
+        miss.reset();
+    }
+
+    @NonNull
+    @Override
+    public String toDescription()
+    {
+        return String.format("size=(%s), hits=(%s), misses=(%s).", size(), getHitCount(), getMissCount());
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+
+    /*
+     * The key is every suffix of the base name, so x.tar.gz and x.gz are cached apart for a delegate that resolves compound suffixes.
+     * Names without a usable extension (no dot, a trailing dot, or a dot file such as .profile) are not cached.
+     */
+    @Nullable
+    protected static String getExtension(@NonNull final String name)
+    {
+        final int last = name.length() - 1;
+
+        if ((last < 0) || (name.charAt(last) == '.'))
+        {
+            return MinioUtils.NULL();
+        }
+        int base = 0;
+
+        for (int i = last; i >= 0; i--)
+        {
+            final char c = name.charAt(i);
+
+            if ((c == '/') || (c == '\\'))
+            {
+                base = i + 1;
+
+                break;
+            }
+        }
+        final int dot = name.indexOf('.', base + 1);
+
+        if ((dot < 0) || (dot >= last))
+        {
+            return MinioUtils.NULL();
+        }
+        return name.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -16,11 +16,10 @@
 
 package co.mercenary.creators.minio.content;
 
-import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.HttpURLConnection;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
@@ -39,8 +38,16 @@ import co.mercenary.creators.minio.util.MinioUtils;
 @JsonIgnoreType
 public interface MinioContentTypeProbe
 {
+    int DEFAULT_PROBE_SIZE = 8 * 1024;
+
     @Nullable
     default String getContentType(@Nullable final URL link)
+    {
+        return getContentType(link, DEFAULT_PROBE_SIZE);
+    }
+
+    @Nullable
+    default String getContentType(@Nullable final URL link, final int most)
     {
         if (null == link)
         {
@@ -64,21 +71,7 @@ public interface MinioContentTypeProbe
         }
         try
         {
-            final URLConnection conn = link.openConnection();
-
-            String type = conn.getContentType();
-
-            final int size = conn.getContentLength();
-
-            try (BufferedInputStream buff = new BufferedInputStream(conn.getInputStream(), size))
-            {
-                type = getContentType(buff, type);
-            }
-            if (conn instanceof HttpURLConnection)
-            {
-                MinioUtils.CAST(conn, HttpURLConnection.class).disconnect();
-            }
-            return type;
+            return MinioContentTypeRemote.getContentType(this, link, most);
         }
         catch (final IOException e)
         {
@@ -151,7 +144,18 @@ public interface MinioContentTypeProbe
     @Nullable
     default String getContentType(@Nullable final byte[] data)
     {
-        return MinioUtils.NULL();
+        if ((null == data) || (data.length < 1))
+        {
+            return MinioUtils.NULL();
+        }
+        try
+        {
+            return URLConnection.guessContentTypeFromStream(new ByteArrayInputStream(data));
+        }
+        catch (final IOException e)
+        {
+            return MinioUtils.NULL();
+        }
     }
 
     @Nullable
@@ -197,26 +201,11 @@ public interface MinioContentTypeProbe
     @Nullable
     default String getContentType(@Nullable final String name, @NonNull final Supplier<String> otherwise)
     {
-        final String path = MinioUtils.toStringOrElse(name, MinioUtils.EMPTY_STRING_VALUED);
+        final String type = MinioContentTypeTable.getCommon().getContentType(name);
 
-        if (path.length() > 4)
+        if (null != type)
         {
-            if (path.endsWith(".json"))
-            {
-                return MinioUtils.getJSONContentType();
-            }
-            if (path.endsWith(".yml") || path.endsWith(".yaml"))
-            {
-                return MinioUtils.getYAMLContentType();
-            }
-            if (path.endsWith(".java"))
-            {
-                return MinioUtils.getJAVAContentType();
-            }
-            if (path.endsWith(".properties"))
-            {
-                return MinioUtils.getPROPContentType();
-            }
+            return type;
         }
         return otherwise.get();
     }
@@ -30,16 +30,26 @@ import co.mercenary.creators.minio.util.MinioUtils;
 public class MinioContentTypeProbeFileTypeMapAdapter implements MinioContentTypeProbe, InitializingBean
 {
     @NonNull
-    private final FileTypeMap fmap;
+    private final FileTypeMap           fmap;
+
+    @NonNull
+    private final MinioContentTypeTable table;
 
     public MinioContentTypeProbeFileTypeMapAdapter()
     {
-        this(new MinioConfigurableMimeFileTypeMap());
+        this(new MinioConfigurableMimeFileTypeMap(), MinioContentTypeTable.getDefault());
     }
 
     public MinioContentTypeProbeFileTypeMapAdapter(@NonNull final FileTypeMap fmap)
+    {
+        this(fmap, MinioContentTypeTable.getCommon());
+    }
+
+    public MinioContentTypeProbeFileTypeMapAdapter(@NonNull final FileTypeMap fmap, @NonNull final MinioContentTypeTable table)
     {
         this.fmap = MinioUtils.requireNonNull(fmap);
+
+        this.table = MinioUtils.requireNonNull(table);
     }
 
     @Nullable
@@ -50,7 +60,7 @@ public class MinioContentTypeProbeFileTypeMapAdapter implements MinioContentType
         {
             return MinioUtils.NULL();
         }
-        final String type = MinioUtils.getContentTypeCommon(name);
+        final String type = table.getContentType(name);
 
         if (null != type)
         {
@@ -83,6 +93,6 @@ public class MinioContentTypeProbeFileTypeMapAdapter implements MinioContentType
     private static final class InstanceHolder
     {
         @NonNull
-        private static final MinioContentTypeProbeFileTypeMapAdapter INSTANCE = new MinioContentTypeProbeFileTypeMapAdapter();
+        private static final MinioContentTypeProbe INSTANCE = new MinioCachingContentTypeProbe(new MinioContentTypeProbeFileTypeMapAdapter());
     }
 }
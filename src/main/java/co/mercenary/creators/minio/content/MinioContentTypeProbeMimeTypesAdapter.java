@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.content;
+
+import java.io.IOException;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.util.MinioUtils;
+
+@JsonIgnoreType
+public class MinioContentTypeProbeMimeTypesAdapter implements MinioContentTypeProbe
+{
+    @NonNull
+    private final MinioContentTypeTable table;
+
+    public MinioContentTypeProbeMimeTypesAdapter()
+    {
+        this(MinioContentTypeTable.getDefault());
+    }
+
+    public MinioContentTypeProbeMimeTypesAdapter(@NonNull final Resource... locations) throws MinioDataException
+    {
+        this(build(locations));
+    }
+
+    public MinioContentTypeProbeMimeTypesAdapter(@NonNull final MinioContentTypeTable table)
+    {
+        this.table = MinioUtils.requireNonNull(table);
+    }
+
+    @NonNull
+    public MinioContentTypeTable getContentTypeTable()
+    {
+        return table;
+    }
+
+    @Nullable
+    @Override
+    public String getContentType(@Nullable final String name)
+    {
+        if ((null == name) || (name.isEmpty()))
+        {
+            return MinioUtils.NULL();
+        }
+        return table.getContentType(name);
+    }
+
+    @NonNull
+    public static MinioContentTypeProbe instance()
+    {
+        return InstanceHolder.INSTANCE;
+    }
+
+    @NonNull
+    private static MinioContentTypeTable build(@NonNull final Resource... locations) throws MinioDataException
+    {
+        try
+        {
+            return MinioContentTypeTable.build(locations);
+        }
+        catch (final IOException e)
+        {
+            throw new MinioDataException(e);
+        }
+    }
+
+    private static final class InstanceHolder
+    {
+        @NonNull
+        private static final MinioContentTypeProbe INSTANCE = new MinioContentTypeProbeMimeTypesAdapter();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.content;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import co.mercenary.creators.minio.util.MinioUtils;
+
+/*
+ * Remote probing never reads more than a bounded prefix of the body: HTTP links are asked with HEAD first, and only when that
+ * does not name a useful type is a ranged GET made for the first few KB, after which the connection is dropped.
+ */
+final class MinioContentTypeRemote
+{
+    static final int MAXIMUM_PROBE_SIZE = 64 * 1024;
+
+    private MinioContentTypeRemote()
+    {
+    }
+
+    @Nullable
+    static String getContentType(@NonNull final MinioContentTypeProbe probe, @NonNull final URL link, final int size) throws IOException
+    {
+        final int most = Math.max(0, Math.min(size, MAXIMUM_PROBE_SIZE));
+
+        final URLConnection conn = link.openConnection();
+
+        if (conn instanceof HttpURLConnection)
+        {
+            final String type = getContentTypeHead(MinioUtils.CAST(conn, HttpURLConnection.class));
+
+            if ((most < 1) || (isUseful(type)))
+            {
+                return type;
+            }
+            return getContentTypeHttp(probe, MinioUtils.CAST(link.openConnection(), HttpURLConnection.class), type, most);
+        }
+        try (InputStream input = conn.getInputStream())
+        {
+            return getContentType(probe, MinioUtils.readInputStream(input, most), conn.getContentType());
+        }
+    }
+
+    @Nullable
+    static String getContentTypeHead(@NonNull final HttpURLConnection conn)
+    {
+        try
+        {
+            conn.setRequestMethod("HEAD");
+
+            final int code = conn.getResponseCode();
+
+            if ((code >= 200) && (code < 300))
+            {
+                return conn.getContentType();
+            }
+            return MinioUtils.NULL();
+        }
+        catch (final IOException e)
+        {
+            return MinioUtils.NULL();
+        }
+        finally
+        {
+            conn.disconnect();
+        }
+    }
+
+    @Nullable
+    static String getContentTypeHttp(@NonNull final MinioContentTypeProbe probe, @NonNull final HttpURLConnection conn, @Nullable final String type, final int most)
+    {
+        try
+        {
+            conn.setRequestProperty("Range", "bytes=0-" + (most - 1));
+
+            final byte[] head = MinioUtils.readInputStream(conn.getInputStream(), most);
+
+            return getContentType(probe, head, isUseful(conn.getContentType()) ? conn.getContentType() : type);
+        }
+        catch (final IOException e)
+        {
+            return type;
+        }
+        finally
+        {
+            /*
+             * Dropping the connection rather than closing the stream keeps a server that ignored the range from being drained.
+             */
+            conn.disconnect();
+        }
+    }
+
+    @Nullable
+    static String getContentType(@NonNull final MinioContentTypeProbe probe, @NonNull final byte[] head, @Nullable final String type)
+    {
+        final String find = probe.getContentType(head);
+
+        if (isUseful(find))
+        {
+            return find;
+        }
+        return probe.getContentType(new ByteArrayInputStream(head), type);
+    }
+
+    static boolean isUseful(@Nullable final String type)
+    {
+        return (null != type) && (false == type.trim().isEmpty()) && (false == type.equals(MinioUtils.getDefaultContentType())) && (false == type.startsWith("content/unknown"));
+    }
+}
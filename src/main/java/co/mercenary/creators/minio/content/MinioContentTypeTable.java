@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.content;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.WithDescription;
+
+/*
+ * Immutable, case-insensitive extension to content type table. Lookups hash the extension in place inside the name
+ * and probe an open-addressed array, so they cost the same however many extensions are mapped.
+ */
+@JsonIgnoreType
+public final class MinioContentTypeTable implements WithDescription
+{
+    @NonNull
+    private final String[] keys;
+
+    @NonNull
+    private final String[] vals;
+
+    private final int      mask;
+
+    private final int      size;
+
+    public MinioContentTypeTable(@NonNull final Map<String, String> types)
+    {
+        MinioUtils.isEachNonNull(types);
+
+        int most = 16;
+
+        while (most < (types.size() * 2))
+        {
+            most <<= 1;
+        }
+        this.keys = new String[most];
+
+        this.vals = new String[most];
+
+        this.mask = most - 1;
+
+        int count = 0;
+
+        for (final Map.Entry<String, String> entry : types.entrySet())
+        {
+            final String extn = entry.getKey().toLowerCase(Locale.ROOT);
+
+            int slot = spread(hash(extn, 0, extn.length())) & mask;
+
+            while ((null != keys[slot]) && (false == keys[slot].equals(extn)))
+            {
+                slot = (slot + 1) & mask;
+            }
+            if (null == keys[slot])
+            {
+                count++;
+            }
+            keys[slot] = extn;
+
+            vals[slot] = MinioUtils.requireNonNull(entry.getValue());
+        }
+        this.size = count;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    @Nullable
+    public String getContentType(@Nullable final String name)
+    {
+        if (null == name)
+        {
+            return MinioUtils.NULL();
+        }
+        final int last = name.length();
+
+        int dot = last - 1;
+
+        while (dot >= 0)
+        {
+            final char c = name.charAt(dot);
+
+            if (c == '.')
+            {
+                break;
+            }
+            if ((c == '/') || (c == '\\'))
+            {
+                return MinioUtils.NULL();
+            }
+            dot--;
+        }
+        final int from = dot + 1;
+
+        final int leng = last - from;
+
+        if ((dot < 0) || (leng < 1))
+        {
+            return MinioUtils.NULL();
+        }
+        int slot = spread(hash(name, from, last)) & mask;
+
+        String extn;
+
+        while (null != (extn = keys[slot]))
+        {
+            if ((extn.length() == leng) && (name.regionMatches(true, from, extn, 0, leng)))
+            {
+                return vals[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MinioUtils.NULL();
+    }
+
+    @NonNull
+    @Override
+    public String toDescription()
+    {
+        return String.format("size=(%s).", size());
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+
+    @NonNull
+    public static MinioContentTypeTable getDefault()
+    {
+        return DefaultHolder.INSTANCE;
+    }
+
+    @NonNull
+    public static MinioContentTypeTable getCommon()
+    {
+        return CommonHolder.INSTANCE;
+    }
+
+    /*
+     * Bundled mime.types first, then each location in order, then the common overrides; later mappings win.
+     */
+    @NonNull
+    public static MinioContentTypeTable build(@NonNull final Resource... locations) throws IOException
+    {
+        MinioUtils.isEachNonNull((Object[]) locations);
+
+        final Map<String, String> types = new LinkedHashMap<>();
+
+        readMimeTypes(types, new ClassPathResource("mime.types", MinioContentTypeTable.class));
+
+        for (final Resource location : locations)
+        {
+            readMimeTypes(types, location);
+        }
+        types.putAll(getCommonTypes());
+
+        return new MinioContentTypeTable(types);
+    }
+
+    @NonNull
+    public static Map<String, String> getCommonTypes()
+    {
+        final Map<String, String> types = new LinkedHashMap<>();
+
+        types.put("json", MinioUtils.getJSONContentType());
+
+        types.put("html", MinioUtils.getHTMLContentType());
+
+        types.put("htm", MinioUtils.getHTMLContentType());
+
+        types.put("txt", MinioUtils.getTEXTContentType());
+
+        types.put("text", MinioUtils.getTEXTContentType());
+
+        types.put("java", MinioUtils.getJAVAContentType());
+
+        types.put("properties", MinioUtils.getPROPContentType());
+
+        types.put("yml", MinioUtils.getYAMLContentType());
+
+        types.put("yaml", MinioUtils.getYAMLContentType());
+
+        return types;
+    }
+
+    /*
+     * Reads the mime.types format, a type followed by its extensions on each line with # comments; later lines win.
+     */
+    @NonNull
+    public static Map<String, String> readMimeTypes(@NonNull final Map<String, String> types, @NonNull final InputStream input) throws IOException
+    {
+        MinioUtils.isEachNonNull(types, input);
+
+        final BufferedReader read = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        String line;
+
+        while (null != (line = read.readLine()))
+        {
+            final int hash = line.indexOf('#');
+
+            final String[] list = ((hash < 0) ? line : line.substring(0, hash)).trim().split("\\s+");
+
+            for (int i = 1; i < list.length; i++)
+            {
+                types.put(list[i].toLowerCase(Locale.ROOT), list[0]);
+            }
+        }
+        return types;
+    }
+
+    @NonNull
+    public static Map<String, String> readMimeTypes(@NonNull final Map<String, String> types, @NonNull final Resource resource) throws IOException
+    {
+        MinioUtils.isEachNonNull(types, resource);
+
+        try (InputStream input = resource.getInputStream())
+        {
+            return readMimeTypes(types, input);
+        }
+    }
+
+    private static int hash(@NonNull final String name, final int from, final int last)
+    {
+        int hash = 0;
+
+        for (int i = from; i < last; i++)
+        {
+            final char c = name.charAt(i);
+
+            hash = (31 * hash) + (((c >= 'A') && (c <= 'Z')) ? (c + 32) : Character.toLowerCase(c));
+        }
+        return hash;
+    }
+
+    private static int spread(final int hash)
+    {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class CommonHolder
+    {
+        @NonNull
+        private static final MinioContentTypeTable INSTANCE = new MinioContentTypeTable(getCommonTypes());
+    }
+
+    private static final class DefaultHolder
+    {
+        @NonNull
+        private static final MinioContentTypeTable INSTANCE = getTable();
+
+        @NonNull
+        private static MinioContentTypeTable getTable()
+        {
+            try
+            {
+                return build();
+            }
+            catch (final IOException e)
+            {
+                throw new MinioRuntimeException(e);
+            }
+        }
+    }
+}
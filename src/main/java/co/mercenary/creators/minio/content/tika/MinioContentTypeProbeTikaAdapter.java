@@ -16,16 +16,20 @@
 
 package co.mercenary.creators.minio.content.tika;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.function.Supplier;
 
 import org.apache.tika.Tika;
 import org.apache.tika.config.TikaConfig;
 import org.apache.tika.detect.Detector;
 import org.apache.tika.language.translate.Translator;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.mime.MediaType;
 import org.apache.tika.parser.Parser;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -38,8 +42,18 @@ import co.mercenary.creators.minio.util.MinioUtils;
 @JsonIgnoreType
 public class MinioContentTypeProbeTikaAdapter implements MinioContentTypeProbe
 {
+    public static final int                DEFAULT_MAGIC_WINDOW = 8 * 1024;
+
+    @NonNull
+    private final Tika                     tika;
+
+    @NonNull
+    private final ThreadLocal<byte[]>      buffers              = new ThreadLocal<>();
+
     @NonNull
-    private final Tika tika;
+    private volatile ThreadLocal<Detector> detectors            = ThreadLocal.withInitial(() -> getTika().getDetector());
+
+    private volatile int                   window;
 
     public MinioContentTypeProbeTikaAdapter()
     {
@@ -126,6 +140,19 @@ public class MinioContentTypeProbeTikaAdapter implements MinioContentTypeProbe
         {
             return MinioUtils.NULL();
         }
+        final int most = getMagicWindow();
+
+        if (most > 0)
+        {
+            try
+            {
+                return detect(new ByteArrayInputStream(input, 0, Math.min(input.length, most)));
+            }
+            catch (final IOException e)
+            {
+                return MinioUtils.NULL();
+            }
+        }
         final String valu = getTika().detect(input);
 
         if ((null == valu) || (valu.isEmpty()))
@@ -193,6 +220,12 @@ public class MinioContentTypeProbeTikaAdapter implements MinioContentTypeProbe
         }
         try
         {
+            final int most = getMagicWindow();
+
+            if (most > 0)
+            {
+                return detect(input, most);
+            }
             final String valu = getTika().detect(input);
 
             if ((null == valu) || (valu.isEmpty()))
@@ -207,9 +240,93 @@ public class MinioContentTypeProbeTikaAdapter implements MinioContentTypeProbe
         }
     }
 
+    public void setMagicWindow(final int window)
+    {
+        this.window = Math.max(0, window);
+    }
+
+    public int getMagicWindow()
+    {
+        return window;
+    }
+
+    public void setDetectorFactory(@Nullable final Supplier<Detector> factory)
+    {
+        this.detectors = ThreadLocal.withInitial((null == factory) ? () -> getTika().getDetector() : factory);
+    }
+
     @NonNull
     protected Tika getTika()
     {
         return tika;
     }
+
+    @NonNull
+    protected Detector getDetector()
+    {
+        return detectors.get();
+    }
+
+    /*
+     * Only the first window bytes are read, into a per-thread buffer; a stream that supports mark is left where it was.
+     */
+    @Nullable
+    protected String detect(@NonNull final InputStream input, final int most) throws IOException
+    {
+        byte[] buff = buffers.get();
+
+        if ((null == buff) || (buff.length < most))
+        {
+            buff = new byte[most];
+
+            buffers.set(buff);
+        }
+        final boolean mark = input.markSupported();
+
+        if (mark)
+        {
+            input.mark(most);
+        }
+        int leng = 0;
+
+        try
+        {
+            while (leng < most)
+            {
+                final int read = input.read(buff, leng, most - leng);
+
+                if (read < 0)
+                {
+                    break;
+                }
+                leng += read;
+            }
+        }
+        finally
+        {
+            if (mark)
+            {
+                input.reset();
+            }
+        }
+        return detect(new ByteArrayInputStream(buff, 0, leng));
+    }
+
+    @Nullable
+    protected String detect(@NonNull final InputStream input) throws IOException
+    {
+        final MediaType type = getDetector().detect(input, new Metadata());
+
+        if (null == type)
+        {
+            return MinioUtils.NULL();
+        }
+        final String valu = type.toString();
+
+        if (valu.isEmpty())
+        {
+            return MinioUtils.NULL();
+        }
+        return valu;
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package co.mercenary.creators.minio.data;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.lang.NonNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.json.JSONUtils;
+import co.mercenary.creators.minio.json.WithJSONOperations;
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.WithDescription;
+
+public class MinioBatchReport implements WithDescription, WithJSONOperations
+{
+    private final long                    count;
+
+    private final long                    succeeded;
+
+    private final long                    elapsed;
+
+    @NonNull
+    private final List<MinioBatchFailure> failures;
+
+    public MinioBatchReport(final long count, final long succeeded, final long elapsed, @NonNull final List<MinioBatchFailure> failures)
+    {
+        this.count = count;
+
+        this.succeeded = succeeded;
+
+        this.elapsed = elapsed;
+
+        this.failures = Collections.unmodifiableList(MinioUtils.requireNonNull(failures));
+    }
+
+    public long getCount()
+    {
+        return count;
+    }
+
+    public long getSucceeded()
+    {
+        return succeeded;
+    }
+
+    public long getFailed()
+    {
+        return failures.size();
+    }
+
+    public long getElapsed()
+    {
+        return elapsed;
+    }
+
+    @NonNull
+    public List<MinioBatchFailure> getFailures()
+    {
+        return failures;
+    }
+
+    @JsonIgnore
+    public boolean isSuccessful()
+    {
+        return failures.isEmpty();
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toDescription()
+    {
+        return String.format("count=(%s), succeeded=(%s), failed=(%s), elapsed=(%s).", getCount(), getSucceeded(), getFailed(), getElapsed());
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toJSONString(final boolean pretty) throws MinioDataException
+    {
+        return JSONUtils.toJSONString(this, pretty);
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+}
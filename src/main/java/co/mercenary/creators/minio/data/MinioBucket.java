@@ -18,9 +18,11 @@ package co.mercenary.creators.minio.data;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Date;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -37,6 +39,7 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import co.mercenary.creators.minio.MinioOperations;
 import co.mercenary.creators.minio.errors.MinioDataException;
 import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.io.ArchiveFormat;
 import co.mercenary.creators.minio.util.AbstractCommon;
 import co.mercenary.creators.minio.util.MinioUtils;
 import co.mercenary.creators.minio.util.WithOperations;
@@ -51,6 +54,8 @@ public class MinioBucket extends AbstractCommon implements WithOperations<MinioB
     @NonNull
     private final MinioBucketOperations oper;
 
+    private int                         hash;
+
     public MinioBucket(@NonNull final String name, @NonNull final Supplier<Date> time, @NonNull final MinioOperations oper)
     {
         super(name);
@@ -86,21 +91,25 @@ public class MinioBucket extends AbstractCommon implements WithOperations<MinioB
     @Override
     public int hashCode()
     {
-        return toString().hashCode();
+        int code = hash;
+
+        if (0 == code)
+        {
+            code = Objects.hash(getName(), time);
+
+            hash = code;
+        }
+        return code;
     }
 
     @Override
     public boolean equals(final Object other)
     {
-        if (this == other)
-        {
-            return true;
-        }
-        if (other instanceof MinioBucket)
+        if (false == super.equals(other))
         {
-            return toString().equals(other.toString());
+            return false;
         }
-        return false;
+        return time.equals(MinioUtils.CAST(other, MinioBucket.class).time);
     }
 
     @NonNull
@@ -143,6 +152,41 @@ public class MinioBucket extends AbstractCommon implements WithOperations<MinioB
                 return oper.deleteObject(self().getName(), name);
             }
 
+            @NonNull
+            @Override
+            public Stream<MinioBatchFailure> deleteObjects(@NonNull final Stream<String> names) throws MinioOperationException
+            {
+                return oper.deleteObjects(self().getName(), names);
+            }
+
+            @NonNull
+            @Override
+            public MinioBatchReport deletePrefix(@NonNull final String prefix) throws MinioOperationException
+            {
+                return oper.deletePrefix(self().getName(), prefix);
+            }
+
+            @NonNull
+            @Override
+            public Stream<MinioPutResult> putObjects(@NonNull final Stream<MinioPutEntry> entries) throws MinioOperationException
+            {
+                return oper.putObjects(self().getName(), entries);
+            }
+
+            @NonNull
+            @Override
+            public MinioBatchReport putArchive(@NonNull final String prefix, @NonNull final InputStream input) throws MinioOperationException
+            {
+                return oper.putArchive(self().getName(), prefix, input);
+            }
+
+            @NonNull
+            @Override
+            public MinioBatchReport getArchive(@NonNull final String prefix, @NonNull final OutputStream output, @NonNull final ArchiveFormat format) throws MinioOperationException
+            {
+                return oper.getArchive(self().getName(), prefix, output, format);
+            }
+
             @NonNull
             @Override
             public String getBucketPolicy() throws MinioOperationException
@@ -249,6 +293,20 @@ public class MinioBucket extends AbstractCommon implements WithOperations<MinioB
                 return oper.findItems(self().getName(), prefix, recursive);
             }
 
+            @NonNull
+            @Override
+            public Stream<String> findItemNames(@Nullable final String prefix, final boolean recursive) throws MinioOperationException
+            {
+                return oper.findItemNames(self().getName(), prefix, recursive);
+            }
+
+            @NonNull
+            @Override
+            public Stream<MinioItemSummary> findItemSummaries(@Nullable final String prefix, final boolean recursive) throws MinioOperationException
+            {
+                return oper.findItemSummaries(self().getName(), prefix, recursive);
+            }
+
             @NonNull
             @Override
             public String getSignedObjectUrl(@NonNull final Method method, @NonNull final String name) throws MinioOperationException
@@ -319,6 +377,12 @@ public class MinioBucket extends AbstractCommon implements WithOperations<MinioB
             {
                 oper.addUserMetaData(self().getName(), name, meta);
             }
+
+            @Override
+            public void setContentType(@NonNull final String name, @NonNull final String type) throws MinioOperationException
+            {
+                oper.setContentType(self().getName(), name, type);
+            }
         };
     }
 }
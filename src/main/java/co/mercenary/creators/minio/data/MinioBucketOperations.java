@@ -18,6 +18,7 @@ package co.mercenary.creators.minio.data;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Optional;
@@ -32,6 +33,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreType;
 
 import co.mercenary.creators.minio.errors.MinioDataException;
 import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.io.ArchiveFormat;
 import co.mercenary.creators.minio.util.MinioUtils;
 import co.mercenary.creators.minio.util.WithSelf;
 import co.mercenary.creators.minio.util.WithServerData;
@@ -47,6 +49,21 @@ public interface MinioBucketOperations extends WithSelf<MinioBucket>, WithServer
 
     boolean deleteObject(@NonNull String name) throws MinioOperationException;
 
+    @NonNull
+    Stream<MinioBatchFailure> deleteObjects(@NonNull Stream<String> names) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport deletePrefix(@NonNull String prefix) throws MinioOperationException;
+
+    @NonNull
+    Stream<MinioPutResult> putObjects(@NonNull Stream<MinioPutEntry> entries) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport putArchive(@NonNull String prefix, @NonNull InputStream input) throws MinioOperationException;
+
+    @NonNull
+    MinioBatchReport getArchive(@NonNull String prefix, @NonNull OutputStream output, @NonNull ArchiveFormat format) throws MinioOperationException;
+
     void setBucketPolicy(@NonNull Object policy) throws MinioOperationException, MinioDataException;
 
     @NonNull
@@ -132,6 +149,36 @@ public interface MinioBucketOperations extends WithSelf<MinioBucket>, WithServer
         return findItems(MinioUtils.requireNonNull(name), false).findFirst();
     }
 
+    @NonNull
+    Stream<String> findItemNames(@Nullable String prefix, boolean recursive) throws MinioOperationException;
+
+    @NonNull
+    default Stream<String> findItemNames(final boolean recursive) throws MinioOperationException
+    {
+        return findItemNames(MinioUtils.NULL(), recursive);
+    }
+
+    @NonNull
+    default Stream<String> findItemNames() throws MinioOperationException
+    {
+        return findItemNames(true);
+    }
+
+    @NonNull
+    Stream<MinioItemSummary> findItemSummaries(@Nullable String prefix, boolean recursive) throws MinioOperationException;
+
+    @NonNull
+    default Stream<MinioItemSummary> findItemSummaries(final boolean recursive) throws MinioOperationException
+    {
+        return findItemSummaries(MinioUtils.NULL(), recursive);
+    }
+
+    @NonNull
+    default Stream<MinioItemSummary> findItemSummaries() throws MinioOperationException
+    {
+        return findItemSummaries(true);
+    }
+
     @NonNull
     default String getSignedObjectUrl(@NonNull final String name) throws MinioOperationException
     {
@@ -211,4 +258,6 @@ public interface MinioBucketOperations extends WithSelf<MinioBucket>, WithServer
     void setUserMetaData(@NonNull String name, @Nullable MinioUserMetaData meta) throws MinioOperationException;
 
     void addUserMetaData(@NonNull String name, @Nullable MinioUserMetaData meta) throws MinioOperationException;
+
+    void setContentType(@NonNull String name, @NonNull String type) throws MinioOperationException;
 }
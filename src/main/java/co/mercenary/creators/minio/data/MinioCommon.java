@@ -16,6 +16,8 @@
 
 package co.mercenary.creators.minio.data;
 
+import java.util.Objects;
+
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
@@ -76,20 +78,18 @@ public abstract class MinioCommon extends AbstractCommon
     @Override
     public int hashCode()
     {
-        return toString().hashCode();
+        return Objects.hash(getName(), getBucket(), getEtag(), getSize());
     }
 
     @Override
     public boolean equals(final Object other)
     {
-        if (this == other)
-        {
-            return true;
-        }
-        if (other instanceof MinioCommon)
+        if (false == super.equals(other))
         {
-            return toString().equals(other.toString());
+            return false;
         }
-        return false;
+        final MinioCommon that = MinioUtils.CAST(other, MinioCommon.class);
+
+        return (getSize() == that.getSize()) && (getBucket().equals(that.getBucket())) && (Objects.equals(getEtag(), that.getEtag()));
     }
 }
@@ -19,6 +19,7 @@ package co.mercenary.creators.minio.data;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.Date;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -55,6 +56,8 @@ public class MinioItem extends MinioCommon implements WithOperations<MinioItemOp
     @NonNull
     private final MinioItemOperations oper;
 
+    private int                       hash;
+
     public MinioItem(@NonNull final String name, @NonNull final String buck, final long size, final boolean file, @Nullable final String etag, @Nullable final String type, @NonNull final Supplier<Date> time, @Nullable final String stor, @NonNull final MinioOperations oper)
     {
         super(name, buck, etag, size);
@@ -114,21 +117,27 @@ public class MinioItem extends MinioCommon implements WithOperations<MinioItemOp
     @Override
     public int hashCode()
     {
-        return toString().hashCode();
+        int code = hash;
+
+        if (0 == code)
+        {
+            code = Objects.hash(super.hashCode(), isFile(), getContentType(), time, getStorageClass());
+
+            hash = code;
+        }
+        return code;
     }
 
     @Override
     public boolean equals(final Object other)
     {
-        if (this == other)
-        {
-            return true;
-        }
-        if (other instanceof MinioItem)
+        if (false == super.equals(other))
         {
-            return toString().equals(other.toString());
+            return false;
         }
-        return false;
+        final MinioItem that = MinioUtils.CAST(other, MinioItem.class);
+
+        return (isFile() == that.isFile()) && (getContentType().equals(that.getContentType())) && (time.equals(that.time)) && (Objects.equals(getStorageClass(), that.getStorageClass()));
     }
 
     @NonNull
@@ -348,6 +357,12 @@ public class MinioItem extends MinioCommon implements WithOperations<MinioItemOp
             {
                 oper.addUserMetaData(self().getBucket(), self().getName(), meta);
             }
+
+            @Override
+            public void setContentType(@NonNull final String type) throws MinioOperationException
+            {
+                oper.setContentType(self().getBucket(), self().getName(), type);
+            }
         };
     }
 }
\ No newline at end of file
@@ -109,4 +109,6 @@ public interface MinioItemOperations extends WithSelf<MinioItem>, WithServerData
     void setUserMetaData(@Nullable MinioUserMetaData meta) throws MinioOperationException;
 
     void addUserMetaData(@Nullable MinioUserMetaData meta) throws MinioOperationException;
+
+    void setContentType(@NonNull String type) throws MinioOperationException;
 }
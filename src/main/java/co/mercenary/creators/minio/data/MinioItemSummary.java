@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.data;
+
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.json.JSONUtils;
+import co.mercenary.creators.minio.json.WithJSONOperations;
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.WithDescription;
+import co.mercenary.creators.minio.util.WithName;
+
+public class MinioItemSummary implements WithName, WithDescription, WithJSONOperations
+{
+    public static final long NO_TIME = Long.MIN_VALUE;
+
+    private final long    size;
+
+    private final long    time;
+
+    private final boolean file;
+
+    @Nullable
+    private final String  etag;
+
+    @NonNull
+    private final String  name;
+
+    public MinioItemSummary(@NonNull final String name, final long size, final boolean file, @Nullable final String etag)
+    {
+        this(name, size, file, etag, NO_TIME);
+    }
+
+    public MinioItemSummary(@NonNull final String name, final long size, final boolean file, @Nullable final String etag, final long time)
+    {
+        this.name = MinioUtils.requireNonNull(name);
+
+        this.size = size;
+
+        this.time = time;
+
+        this.file = file;
+
+        this.etag = MinioUtils.toETagSequence(etag);
+    }
+
+    public MinioItemSummary(@NonNull final MinioItem item)
+    {
+        this(item.getName(), item.getSize(), item.isFile(), item.getEtag(), item.getLastModified().map(Date::getTime).orElse(NO_TIME));
+    }
+
+    @NonNull
+    @Override
+    public String getName()
+    {
+        return name;
+    }
+
+    public long getSize()
+    {
+        return size;
+    }
+
+    public boolean isFile()
+    {
+        return file;
+    }
+
+    @Nullable
+    @JsonInclude(Include.NON_NULL)
+    public String getEtag()
+    {
+        return etag;
+    }
+
+    @NonNull
+    @JsonInclude(Include.NON_ABSENT)
+    public Optional<Date> getLastModified()
+    {
+        if (NO_TIME == time)
+        {
+            return Optional.empty();
+        }
+        return Optional.of(new Date(time));
+    }
+
+    @JsonIgnore
+    public long getLastModifiedTime()
+    {
+        return time;
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toDescription()
+    {
+        return String.format("name=(%s), etag=(%s), size=(%s), file=(%s), lastModified=(%s).", getName(), getEtag(), getSize(), isFile(), (NO_TIME == time) ? MinioUtils.NULLS_STRING_VALUED : MinioUtils.DEFAULT_DATE_FORMAT.get().format(new Date(time)));
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toJSONString(final boolean pretty) throws MinioDataException
+    {
+        return JSONUtils.toJSONString(this, pretty);
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return name.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (other instanceof MinioItemSummary)
+        {
+            final MinioItemSummary that = MinioUtils.CAST(other);
+
+            return ((size == that.size) && (time == that.time) && (file == that.file) && (name.equals(that.name)) && (Objects.equals(etag, that.etag)));
+        }
+        return false;
+    }
+}
@@ -17,7 +17,9 @@
 package co.mercenary.creators.minio.data;
 
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -36,21 +38,43 @@ public class MinioObjectStatus extends MinioCommon implements WithUserMetaData
     @NonNull
     private final String              type;
 
+    @NonNull
+    private final String              kind;
+
     @NonNull
     private final Optional<Date>      time;
 
     @NonNull
     private final Map<String, String> meta;
 
+    @NonNull
+    private final Map<String, String> head;
+
+    private int                       hash;
+
     public MinioObjectStatus(@NonNull final String name, @NonNull final String buck, final long size, @Nullable final String type, @Nullable final String etag, @NonNull final Supplier<Date> time, @NonNull final Map<String, String> meta)
+    {
+        this(name, buck, size, type, type, etag, time, meta);
+    }
+
+    public MinioObjectStatus(@NonNull final String name, @NonNull final String buck, final long size, @Nullable final String type, @Nullable final String kind, @Nullable final String etag, @NonNull final Supplier<Date> time, @NonNull final Map<String, String> meta)
+    {
+        this(name, buck, size, type, kind, etag, time, meta, MinioUtils.emptyMap());
+    }
+
+    public MinioObjectStatus(@NonNull final String name, @NonNull final String buck, final long size, @Nullable final String type, @Nullable final String kind, @Nullable final String etag, @NonNull final Supplier<Date> time, @NonNull final Map<String, String> meta, @NonNull final Map<String, String> head)
     {
         super(name, buck, etag, size);
 
         this.type = MinioUtils.fixContentType(type);
 
+        this.kind = MinioUtils.fixContentType(kind);
+
         this.time = MinioUtils.toMaybeNonNull(time);
 
-        this.meta = MinioUtils.requireNonNull(meta);
+        this.meta = new LinkedHashMap<>(MinioUtils.requireNonNull(meta));
+
+        this.head = new LinkedHashMap<>(MinioUtils.requireNonNull(head));
     }
 
     @NonNull
@@ -59,6 +83,13 @@ public class MinioObjectStatus extends MinioCommon implements WithUserMetaData
         return type;
     }
 
+    @NonNull
+    @JsonIgnore
+    public String getStoredContentType()
+    {
+        return kind;
+    }
+
     @NonNull
     @JsonInclude(Include.NON_ABSENT)
     public Optional<Date> getCreationTime()
@@ -78,6 +109,20 @@ public class MinioObjectStatus extends MinioCommon implements WithUserMetaData
         return MinioUtils.toUnmodifiable(meta);
     }
 
+    /*
+     * The stored headers a metadata rewrite has to carry over, such as Cache-Control and the stored Content-Type; empty unless read from the server.
+     */
+    @NonNull
+    @JsonIgnore
+    public Map<String, String> getCopyHeaders()
+    {
+        if (head.isEmpty())
+        {
+            return MinioUtils.emptyMap();
+        }
+        return MinioUtils.toUnmodifiable(head);
+    }
+
     @NonNull
     @Override
     @JsonIgnore
@@ -89,20 +134,26 @@ public class MinioObjectStatus extends MinioCommon implements WithUserMetaData
     @Override
     public int hashCode()
     {
-        return toString().hashCode();
+        int code = hash;
+
+        if (0 == code)
+        {
+            code = Objects.hash(super.hashCode(), getContentType(), getStoredContentType(), time, meta);
+
+            hash = code;
+        }
+        return code;
     }
 
     @Override
     public boolean equals(final Object other)
     {
-        if (this == other)
-        {
-            return true;
-        }
-        if (other instanceof MinioObjectStatus)
+        if (false == super.equals(other))
         {
-            return toString().equals(other.toString());
+            return false;
         }
-        return false;
+        final MinioObjectStatus that = MinioUtils.CAST(other, MinioObjectStatus.class);
+
+        return (getContentType().equals(that.getContentType())) && (getStoredContentType().equals(that.getStoredContentType())) && (time.equals(that.time)) && (meta.equals(that.meta));
     }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.data;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.json.JSONUtils;
+import co.mercenary.creators.minio.json.WithJSONOperations;
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.WithDescription;
+import co.mercenary.creators.minio.util.WithName;
+
+public class MinioPutEntry implements WithName, WithDescription, WithJSONOperations
+{
+    @NonNull
+    private final String            name;
+
+    @NonNull
+    private final byte[]            data;
+
+    @Nullable
+    private final String            type;
+
+    @Nullable
+    private final MinioUserMetaData meta;
+
+    public MinioPutEntry(@NonNull final String name, @NonNull final byte[] data)
+    {
+        this(name, data, MinioUtils.NULL(), MinioUtils.NULL());
+    }
+
+    public MinioPutEntry(@NonNull final String name, @NonNull final byte[] data, @Nullable final String type)
+    {
+        this(name, data, type, MinioUtils.NULL());
+    }
+
+    public MinioPutEntry(@NonNull final String name, @NonNull final byte[] data, @Nullable final MinioUserMetaData meta)
+    {
+        this(name, data, MinioUtils.NULL(), meta);
+    }
+
+    public MinioPutEntry(@NonNull final String name, @NonNull final byte[] data, @Nullable final String type, @Nullable final MinioUserMetaData meta)
+    {
+        this.name = MinioUtils.requireNonNull(name);
+
+        this.data = MinioUtils.requireNonNull(data);
+
+        this.type = type;
+
+        this.meta = meta;
+    }
+
+    @NonNull
+    @Override
+    public String getName()
+    {
+        return name;
+    }
+
+    public long getSize()
+    {
+        return data.length;
+    }
+
+    @NonNull
+    @JsonIgnore
+    public byte[] getContent()
+    {
+        return data;
+    }
+
+    @Nullable
+    @JsonInclude(Include.NON_NULL)
+    public String getContentType()
+    {
+        return type;
+    }
+
+    @Nullable
+    @JsonInclude(Include.NON_NULL)
+    public MinioUserMetaData getUserMetaData()
+    {
+        return meta;
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toDescription()
+    {
+        return String.format("name=(%s), size=(%s), contentType=(%s), userMetaData=(%s).", getName(), getSize(), getContentType(), getUserMetaData());
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toJSONString(final boolean pretty) throws MinioDataException
+    {
+        return JSONUtils.toJSONString(this, pretty);
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.data;
+
+import java.util.Optional;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.json.JSONUtils;
+import co.mercenary.creators.minio.json.WithJSONOperations;
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.WithDescription;
+import co.mercenary.creators.minio.util.WithName;
+
+public class MinioPutResult implements WithName, WithDescription, WithJSONOperations
+{
+    @NonNull
+    private final String            name;
+
+    private final long              size;
+
+    private final long              elapsed;
+
+    @Nullable
+    private final MinioBatchFailure failure;
+
+    public MinioPutResult(@NonNull final String name, final long size, final long elapsed)
+    {
+        this(name, size, elapsed, MinioUtils.NULL());
+    }
+
+    public MinioPutResult(@NonNull final String name, final long size, final long elapsed, @Nullable final MinioBatchFailure failure)
+    {
+        this.name = MinioUtils.requireNonNull(name);
+
+        this.size = size;
+
+        this.elapsed = elapsed;
+
+        this.failure = failure;
+    }
+
+    @NonNull
+    @Override
+    public String getName()
+    {
+        return name;
+    }
+
+    public long getSize()
+    {
+        return size;
+    }
+
+    public long getElapsed()
+    {
+        return elapsed;
+    }
+
+    @NonNull
+    @JsonInclude(Include.NON_ABSENT)
+    public Optional<MinioBatchFailure> getFailure()
+    {
+        return MinioUtils.toOptional(failure);
+    }
+
+    @JsonIgnore
+    public boolean isSuccessful()
+    {
+        return null == failure;
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toDescription()
+    {
+        return String.format("name=(%s), size=(%s), elapsed=(%s), successful=(%s).", getName(), getSize(), getElapsed(), isSuccessful());
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toJSONString(final boolean pretty) throws MinioDataException
+    {
+        return JSONUtils.toJSONString(this, pretty);
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+}
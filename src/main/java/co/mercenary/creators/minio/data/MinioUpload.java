@@ -16,9 +16,17 @@
 
 package co.mercenary.creators.minio.data;
 
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
 import co.mercenary.creators.minio.MinioOperations;
 import co.mercenary.creators.minio.errors.MinioOperationException;
@@ -31,15 +39,36 @@ public class MinioUpload extends AbstractCommon implements WithOperations<MinioU
     @NonNull
     private final String                buck;
 
+    @Nullable
+    private final String                upid;
+
+    private final long                  size;
+
+    @NonNull
+    private final Optional<Date>        time;
+
     @NonNull
     private final MinioUploadOperations oper;
 
+    private int                         hash;
+
     public MinioUpload(@NonNull final String name, @NonNull final String buck, @NonNull final MinioOperations oper)
+    {
+        this(name, buck, MinioUtils.NULL(), 0L, MinioUtils::NULL, oper);
+    }
+
+    public MinioUpload(@NonNull final String name, @NonNull final String buck, @Nullable final String upid, final long size, @NonNull final Supplier<Date> time, @NonNull final MinioOperations oper)
     {
         super(MinioUtils.fixPathString(name));
 
         this.buck = MinioUtils.requireNonNull(buck);
 
+        this.upid = upid;
+
+        this.size = size;
+
+        this.time = MinioUtils.toMaybeNonNull(time);
+
         this.oper = buildWithOperations(this, oper);
     }
 
@@ -49,6 +78,25 @@ public class MinioUpload extends AbstractCommon implements WithOperations<MinioU
         return buck;
     }
 
+    @Nullable
+    @JsonInclude(Include.NON_NULL)
+    public String getUploadId()
+    {
+        return upid;
+    }
+
+    public long getSize()
+    {
+        return size;
+    }
+
+    @NonNull
+    @JsonInclude(Include.NON_ABSENT)
+    public Optional<Date> getInitiated()
+    {
+        return time.map(date -> new Date(date.getTime()));
+    }
+
     @NonNull
     @Override
     @JsonIgnore
@@ -62,27 +110,33 @@ public class MinioUpload extends AbstractCommon implements WithOperations<MinioU
     @JsonIgnore
     public String toDescription()
     {
-        return String.format("name=(%s), bucket=(%s).", getName(), getBucket());
+        return String.format("name=(%s), bucket=(%s), uploadId=(%s), size=(%s), initiated=(%s).", getName(), getBucket(), getUploadId(), getSize(), toDateString(time));
     }
 
     @Override
     public int hashCode()
     {
-        return toString().hashCode();
+        int code = hash;
+
+        if (0 == code)
+        {
+            code = Objects.hash(getName(), getBucket(), getUploadId(), getSize(), time);
+
+            hash = code;
+        }
+        return code;
     }
 
     @Override
     public boolean equals(final Object other)
     {
-        if (this == other)
+        if (false == super.equals(other))
         {
-            return true;
+            return false;
         }
-        if (other instanceof MinioUpload)
-        {
-            return toString().equals(other.toString());
-        }
-        return false;
+        final MinioUpload that = MinioUtils.CAST(other, MinioUpload.class);
+
+        return (getSize() == that.getSize()) && (getBucket().equals(that.getBucket())) && (Objects.equals(getUploadId(), that.getUploadId())) && (time.equals(that.time));
     }
 
     @NonNull
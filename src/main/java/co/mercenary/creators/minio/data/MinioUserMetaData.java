@@ -157,7 +157,7 @@ public class MinioUserMetaData extends LinkedHashMap<String, String> implements
     @Override
     public int hashCode()
     {
-        return toString().hashCode();
+        return super.hashCode();
     }
 
     @Override
@@ -169,7 +169,7 @@ public class MinioUserMetaData extends LinkedHashMap<String, String> implements
         }
         if (other instanceof MinioUserMetaData)
         {
-            return toString().equals(other.toString());
+            return super.equals(other);
         }
         return false;
     }
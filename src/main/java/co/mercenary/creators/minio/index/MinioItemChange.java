@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package co.mercenary.creators.minio.index;
+
+import java.util.Optional;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import co.mercenary.creators.minio.data.MinioItemSummary;
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.json.JSONUtils;
+import co.mercenary.creators.minio.json.WithJSONOperations;
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.WithDescription;
+import co.mercenary.creators.minio.util.WithName;
+
+public class MinioItemChange implements WithName, WithDescription, WithJSONOperations
+{
+    @NonNull
+    private final MinioItemChangeType type;
+
+    @Nullable
+    private final MinioItemSummary    before;
+
+    @Nullable
+    private final MinioItemSummary    after;
+
+    public MinioItemChange(@NonNull final MinioItemChangeType type, @Nullable final MinioItemSummary before, @Nullable final MinioItemSummary after)
+    {
+        this.type = MinioUtils.requireNonNull(type);
+
+        this.before = before;
+
+        this.after = after;
+
+        if ((null == before) && (null == after))
+        {
+            throw new IllegalArgumentException("change has no items.");
+        }
+    }
+
+    @NonNull
+    @Override
+    public String getName()
+    {
+        if (null != after)
+        {
+            return after.getName();
+        }
+        return MinioUtils.requireNonNull(before).getName();
+    }
+
+    @NonNull
+    public MinioItemChangeType getType()
+    {
+        return type;
+    }
+
+    @NonNull
+    @JsonInclude(Include.NON_ABSENT)
+    public Optional<MinioItemSummary> getBefore()
+    {
+        return MinioUtils.toOptional(before);
+    }
+
+    @NonNull
+    @JsonInclude(Include.NON_ABSENT)
+    public Optional<MinioItemSummary> getAfter()
+    {
+        return MinioUtils.toOptional(after);
+    }
+
+    @JsonIgnore
+    public boolean isAdded()
+    {
+        return MinioItemChangeType.ADDED == type;
+    }
+
+    @JsonIgnore
+    public boolean isRemoved()
+    {
+        return MinioItemChangeType.REMOVED == type;
+    }
+
+    @JsonIgnore
+    public boolean isModified()
+    {
+        return MinioItemChangeType.MODIFIED == type;
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toDescription()
+    {
+        return String.format("type=(%s), name=(%s), before=(%s), after=(%s).", getType(), getName(), before, after);
+    }
+
+    @NonNull
+    @Override
+    @JsonIgnore
+    public String toJSONString(final boolean pretty) throws MinioDataException
+    {
+        return JSONUtils.toJSONString(this, pretty);
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+}
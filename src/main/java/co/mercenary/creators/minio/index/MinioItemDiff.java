@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package co.mercenary.creators.minio.index;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.MinioOperations;
+import co.mercenary.creators.minio.data.MinioItem;
+import co.mercenary.creators.minio.data.MinioItemSummary;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+import co.mercenary.creators.minio.util.MinioUtils;
+
+@JsonIgnoreType
+public final class MinioItemDiff
+{
+    @NonNull
+    public static final BiPredicate<MinioItemSummary, MinioItemSummary> SAME_ETAG_AND_SIZE = MinioItemDiff::isSameEtagAndSize;
+
+    private MinioItemDiff()
+    {
+    }
+
+    public static boolean isSameEtagAndSize(@NonNull final MinioItemSummary before, @NonNull final MinioItemSummary after)
+    {
+        if (before.getSize() != after.getSize())
+        {
+            return false;
+        }
+        final String etag = before.getEtag();
+
+        return ((null == etag) || (null == after.getEtag()) || (etag.equals(after.getEtag())));
+    }
+
+    @NonNull
+    public static Stream<MinioItemChange> diff(@NonNull final Stream<MinioItemSummary> before, @NonNull final Stream<MinioItemSummary> after)
+    {
+        return diff(before, after, SAME_ETAG_AND_SIZE);
+    }
+
+    @NonNull
+    public static Stream<MinioItemChange> diff(@NonNull final Stream<MinioItemSummary> before, @NonNull final Stream<MinioItemSummary> after, @NonNull final BiPredicate<MinioItemSummary, MinioItemSummary> same)
+    {
+        MinioUtils.isEachNonNull(before, after, same);
+
+        return MinioItemIndex.toStream(new MergeIterator(before.iterator(), after.iterator(), same)).onClose(() -> {
+
+            try
+            {
+                before.close();
+            }
+            finally
+            {
+                after.close();
+            }
+        });
+    }
+
+    @NonNull
+    public static Stream<MinioItemChange> diffItems(@NonNull final Stream<MinioItem> before, @NonNull final Stream<MinioItem> after)
+    {
+        MinioUtils.isEachNonNull(before, after);
+
+        return diff(before.map(MinioItemSummary::new), after.map(MinioItemSummary::new));
+    }
+
+    @NonNull
+    public static Stream<MinioItemChange> diff(@NonNull final MinioItemIndex index, @NonNull final MinioOperations oper, @NonNull final String bucket, @Nullable final String prefix) throws MinioOperationException
+    {
+        MinioUtils.isEachNonNull(index, oper, bucket);
+
+        return diff(index.findItems(prefix), oper.findItemSummaries(bucket, prefix, true));
+    }
+
+    private static final class MergeIterator implements Iterator<MinioItemChange>
+    {
+        @NonNull
+        private final Iterator<MinioItemSummary>                     left;
+
+        @NonNull
+        private final Iterator<MinioItemSummary>                     right;
+
+        @NonNull
+        private final BiPredicate<MinioItemSummary, MinioItemSummary> same;
+
+        @Nullable
+        private MinioItemSummary                                     prev;
+
+        @Nullable
+        private MinioItemSummary                                     next;
+
+        @Nullable
+        private MinioItemChange                                      change;
+
+        MergeIterator(@NonNull final Iterator<MinioItemSummary> left, @NonNull final Iterator<MinioItemSummary> right, @NonNull final BiPredicate<MinioItemSummary, MinioItemSummary> same)
+        {
+            this.left = left;
+
+            this.right = right;
+
+            this.same = same;
+
+            this.prev = advance(left, MinioUtils.NULL());
+
+            this.next = advance(right, MinioUtils.NULL());
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            while ((null == change) && ((null != prev) || (null != next)))
+            {
+                final int comp = (null == prev) ? 1 : (null == next) ? -1 : MinioUtils.compareKeys(prev.getName(), next.getName());
+
+                if (comp < 0)
+                {
+                    change = new MinioItemChange(MinioItemChangeType.REMOVED, prev, MinioUtils.NULL());
+
+                    prev = advance(left, prev);
+                }
+                else if (comp > 0)
+                {
+                    change = new MinioItemChange(MinioItemChangeType.ADDED, MinioUtils.NULL(), next);
+
+                    next = advance(right, next);
+                }
+                else
+                {
+                    if (false == same.test(prev, next))
+                    {
+                        change = new MinioItemChange(MinioItemChangeType.MODIFIED, prev, next);
+                    }
+                    prev = advance(left, prev);
+
+                    next = advance(right, next);
+                }
+            }
+            return null != change;
+        }
+
+        @Override
+        public MinioItemChange next()
+        {
+            if (false == hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            final MinioItemChange value = change;
+
+            change = MinioUtils.NULL();
+
+            return value;
+        }
+
+        @Nullable
+        private static MinioItemSummary advance(@NonNull final Iterator<MinioItemSummary> iter, @Nullable final MinioItemSummary last)
+        {
+            if (false == iter.hasNext())
+            {
+                return MinioUtils.NULL();
+            }
+            final MinioItemSummary item = MinioUtils.requireNonNull(iter.next());
+
+            if ((null != last) && (MinioUtils.compareKeys(last.getName(), item.getName()) >= 0))
+            {
+                throw new MinioRuntimeException(String.format("item (%s) is out of order after (%s).", item.getName(), last.getName()));
+            }
+            return item;
+        }
+    }
+}
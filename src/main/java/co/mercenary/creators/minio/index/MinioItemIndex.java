@@ -0,0 +1,468 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.data.MinioItemSummary;
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.WithDescription;
+
+@JsonIgnoreType
+public class MinioItemIndex implements WithDescription, Closeable
+{
+    @NonNull
+    private final Path          path;
+
+    @NonNull
+    private final ByteBuffer    data;
+
+    @NonNull
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    @NonNull
+    private final AtomicInteger users  = new AtomicInteger(1);
+
+    private final long          count;
+
+    private final int           roff;
+
+    private final int           rsize;
+
+    protected MinioItemIndex(@NonNull final Path path, @NonNull final ByteBuffer data) throws MinioDataException
+    {
+        this.path = MinioUtils.requireNonNull(path);
+
+        this.data = MinioUtils.requireNonNull(data);
+
+        if (data.limit() < MinioItemIndexFormat.HEADER_SIZE)
+        {
+            throw new MinioDataException(String.format("index (%s) is truncated.", path));
+        }
+        if ((data.getInt(0) != MinioItemIndexFormat.MAGIC) || (data.getInt(4) != MinioItemIndexFormat.VERSION))
+        {
+            throw new MinioDataException(String.format("index (%s) is not a valid index.", path));
+        }
+        this.count = data.getLong(8);
+
+        this.roff = (int) data.getLong(16);
+
+        this.rsize = data.getInt(24);
+
+        if ((roff < MinioItemIndexFormat.HEADER_SIZE) || (((long) roff + (4L * rsize)) > data.limit()) || (data.getInt(28) != MinioItemIndexFormat.RESTART_INTERVAL))
+        {
+            throw new MinioDataException(String.format("index (%s) is corrupt.", path));
+        }
+    }
+
+    @NonNull
+    public static MinioItemIndex open(@NonNull final Path path) throws MinioDataException
+    {
+        MinioUtils.isEachNonNull(path);
+
+        try (FileChannel chan = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            final long size = chan.size();
+
+            if (size > Integer.MAX_VALUE)
+            {
+                throw new MinioDataException(String.format("index (%s) is too large.", path));
+            }
+            final MappedByteBuffer data = chan.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            return new MinioItemIndex(path, data);
+        }
+        catch (final IOException e)
+        {
+            throw new MinioDataException(e);
+        }
+    }
+
+    @NonNull
+    public Path getPath()
+    {
+        return path;
+    }
+
+    public long size()
+    {
+        return count;
+    }
+
+    public boolean isEmpty()
+    {
+        return count < 1;
+    }
+
+    public boolean isClosed()
+    {
+        return closed.get();
+    }
+
+    /*
+     * Streams still open when the index is closed keep the mapping alive, and it is released when the last of them is closed.
+     */
+    @Override
+    public void close()
+    {
+        if (closed.compareAndSet(false, true))
+        {
+            release();
+        }
+    }
+
+    protected void acquire()
+    {
+        while (true)
+        {
+            final int many = users.get();
+
+            if (many < 1)
+            {
+                throw new IllegalStateException(String.format("index (%s) is closed.", path));
+            }
+            if (users.compareAndSet(many, many + 1))
+            {
+                return;
+            }
+        }
+    }
+
+    protected void release()
+    {
+        if (users.decrementAndGet() == 0)
+        {
+            MinioItemIndexFormat.unmap(data);
+        }
+    }
+
+    @NonNull
+    public Stream<MinioItemSummary> findItems()
+    {
+        return findItems(MinioUtils.NULL(), MinioUtils.NULL());
+    }
+
+    @NonNull
+    public Stream<MinioItemSummary> findItems(@Nullable final String prefix)
+    {
+        if ((null == prefix) || (prefix.isEmpty()))
+        {
+            return findItems();
+        }
+        final byte[] want = prefix.getBytes(StandardCharsets.UTF_8);
+
+        acquire();
+
+        final Cursor cursor = seek(want);
+
+        return toStream(new Iterator<MinioItemSummary>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return cursor.isValid() && MinioItemIndexFormat.isPrefix(want, cursor.key, cursor.klen);
+            }
+
+            @Override
+            public MinioItemSummary next()
+            {
+                if (false == hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                return cursor.take();
+            }
+        }).onClose(this::release);
+    }
+
+    @NonNull
+    public Stream<MinioItemSummary> findItems(@Nullable final String from, @Nullable final String upto)
+    {
+        final byte[] last = (null == upto) ? MinioUtils.NULL() : upto.getBytes(StandardCharsets.UTF_8);
+
+        acquire();
+
+        final Cursor cursor = (null == from) ? seek(new byte[0]) : seek(from.getBytes(StandardCharsets.UTF_8));
+
+        return toStream(new Iterator<MinioItemSummary>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return cursor.isValid() && ((null == last) || (MinioItemIndexFormat.compare(cursor.key, cursor.klen, last, last.length) < 0));
+            }
+
+            @Override
+            public MinioItemSummary next()
+            {
+                if (false == hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                return cursor.take();
+            }
+        }).onClose(this::release);
+    }
+
+    @NonNull
+    public Optional<MinioItemSummary> findItem(@NonNull final String name)
+    {
+        MinioUtils.isEachNonNull(name);
+
+        final byte[] want = name.getBytes(StandardCharsets.UTF_8);
+
+        acquire();
+
+        try
+        {
+            final Cursor cursor = seek(want);
+
+            if ((cursor.isValid()) && (MinioItemIndexFormat.compare(cursor.key, cursor.klen, want, want.length) == 0))
+            {
+                return Optional.of(cursor.take());
+            }
+            return Optional.empty();
+        }
+        finally
+        {
+            release();
+        }
+    }
+
+    @NonNull
+    public List<MinioItemSummary> findLargest(final int limit)
+    {
+        return findLargest(MinioUtils.NULL(), limit);
+    }
+
+    @NonNull
+    public List<MinioItemSummary> findLargest(@Nullable final String prefix, final int limit)
+    {
+        if (limit < 1)
+        {
+            return new ArrayList<>();
+        }
+        final Comparator<MinioItemSummary> order = Comparator.comparingLong(MinioItemSummary::getSize);
+
+        final PriorityQueue<MinioItemSummary> heap = new PriorityQueue<>(limit + 1, order);
+
+        try (Stream<MinioItemSummary> items = findItems(prefix))
+        {
+            items.forEach(item -> {
+
+                if (heap.size() < limit)
+                {
+                    heap.add(item);
+                }
+                else if (item.getSize() > heap.peek().getSize())
+                {
+                    heap.poll();
+
+                    heap.add(item);
+                }
+            });
+        }
+        final List<MinioItemSummary> list = new ArrayList<>(heap);
+
+        list.sort(order.reversed());
+
+        return list;
+    }
+
+    public long getTotalSize(@Nullable final String prefix)
+    {
+        try (Stream<MinioItemSummary> items = findItems(prefix))
+        {
+            return items.mapToLong(MinioItemSummary::getSize).sum();
+        }
+    }
+
+    @NonNull
+    @Override
+    public String toDescription()
+    {
+        return String.format("path=(%s), count=(%s).", getPath(), size());
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+
+    @NonNull
+    protected Cursor seek(@NonNull final byte[] want)
+    {
+        int lo = 0;
+
+        int hi = rsize - 1;
+
+        int at = 0;
+
+        final Cursor cursor = new Cursor();
+
+        while (lo <= hi)
+        {
+            final int mid = (lo + hi) >>> 1;
+
+            cursor.reset(data.getInt(roff + (4 * mid)));
+
+            cursor.read();
+
+            if (MinioItemIndexFormat.compare(cursor.key, cursor.klen, want, want.length) < 0)
+            {
+                at = mid;
+
+                lo = mid + 1;
+            }
+            else
+            {
+                hi = mid - 1;
+            }
+        }
+        cursor.reset((rsize > 0) ? data.getInt(roff + (4 * at)) : roff);
+
+        cursor.read();
+
+        while ((cursor.isValid()) && (MinioItemIndexFormat.compare(cursor.key, cursor.klen, want, want.length) < 0))
+        {
+            cursor.read();
+        }
+        return cursor;
+    }
+
+    @NonNull
+    static <T> Stream<T> toStream(@NonNull final Iterator<T> iterator)
+    {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    protected final class Cursor
+    {
+        @NonNull
+        private final ByteBuffer buff = data.duplicate();
+
+        @NonNull
+        private byte[]           key  = new byte[256];
+
+        private int              klen;
+
+        private boolean          valid;
+
+        private boolean          file;
+
+        private long             size;
+
+        private long             time;
+
+        @Nullable
+        private String           etag;
+
+        void reset(final int offset)
+        {
+            buff.position(offset);
+
+            klen = 0;
+        }
+
+        boolean isValid()
+        {
+            return valid;
+        }
+
+        void read()
+        {
+            if (buff.position() >= roff)
+            {
+                valid = false;
+
+                return;
+            }
+            final int shared = MinioItemIndexFormat.readVarInt(buff);
+
+            final int unshared = MinioItemIndexFormat.readVarInt(buff);
+
+            if ((shared + unshared) > key.length)
+            {
+                key = Arrays.copyOf(key, Math.max(key.length * 2, shared + unshared));
+            }
+            buff.get(key, shared, unshared);
+
+            klen = shared + unshared;
+
+            final byte flags = buff.get();
+
+            file = ((flags & MinioItemIndexFormat.FLAG_FILE) != 0);
+
+            size = MinioItemIndexFormat.readVarLong(buff);
+
+            time = ((flags & MinioItemIndexFormat.FLAG_TIME) != 0) ? MinioItemIndexFormat.noZigZag(MinioItemIndexFormat.readVarLong(buff)) : MinioItemSummary.NO_TIME;
+
+            if ((flags & MinioItemIndexFormat.FLAG_ETAG) != 0)
+            {
+                final byte[] tags = new byte[MinioItemIndexFormat.readVarInt(buff)];
+
+                buff.get(tags);
+
+                etag = new String(tags, StandardCharsets.UTF_8);
+            }
+            else
+            {
+                etag = MinioUtils.NULL();
+            }
+            valid = true;
+        }
+
+        @NonNull
+        MinioItemSummary take()
+        {
+            final MinioItemSummary item = new MinioItemSummary(new String(key, 0, klen, StandardCharsets.UTF_8), size, file, etag, time);
+
+            read();
+
+            return item;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.index;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+import org.springframework.lang.NonNull;
+
+import co.mercenary.creators.minio.util.MinioUtils;
+
+/*
+ * Layout of an index file, all integers big-endian:
+ *
+ *   header   : magic(int) version(int) count(long) restarts-offset(long) restarts-count(int) interval(int)
+ *   entries  : shared(varint) unshared(varint) key-suffix(bytes) flags(byte) size(varlong) [time(zigzag varlong)] [etag-length(varint) etag(bytes)]
+ *   restarts : offset(int) of every interval-th entry, whose key is stored in full
+ *
+ * Keys are UTF-8 and sorted by unsigned byte order, which is the order S3 and Minio list them in.
+ */
+final class MinioItemIndexFormat
+{
+    static final int  MAGIC            = 0x4D494458;
+
+    static final int  VERSION          = 1;
+
+    static final int  HEADER_SIZE      = 32;
+
+    static final int  RESTART_INTERVAL = 16;
+
+    static final byte FLAG_FILE        = 0x01;
+
+    static final byte FLAG_TIME        = 0x02;
+
+    static final byte FLAG_ETAG        = 0x04;
+
+    private MinioItemIndexFormat()
+    {
+    }
+
+    static int compare(@NonNull final byte[] a, final int alen, @NonNull final byte[] b, final int blen)
+    {
+        final int size = Math.min(alen, blen);
+
+        for (int i = 0; i < size; i++)
+        {
+            final int diff = (a[i] & 0xFF) - (b[i] & 0xFF);
+
+            if (diff != 0)
+            {
+                return diff;
+            }
+        }
+        return alen - blen;
+    }
+
+    static boolean isPrefix(@NonNull final byte[] prefix, @NonNull final byte[] key, final int klen)
+    {
+        if (prefix.length > klen)
+        {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++)
+        {
+            if (prefix[i] != key[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void writeVarLong(@NonNull final DataOutput output, final long value) throws IOException
+    {
+        long bits = value;
+
+        while ((bits & ~0x7FL) != 0L)
+        {
+            output.writeByte((int) ((bits & 0x7FL) | 0x80L));
+
+            bits >>>= 7;
+        }
+        output.writeByte((int) bits);
+    }
+
+    static long readVarLong(@NonNull final ByteBuffer buffer)
+    {
+        long value = 0L;
+
+        int shift = 0;
+
+        while (true)
+        {
+            final byte b = buffer.get();
+
+            value |= ((long) (b & 0x7F)) << shift;
+
+            if ((b & 0x80) == 0)
+            {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    static int readVarInt(@NonNull final ByteBuffer buffer)
+    {
+        return (int) readVarLong(buffer);
+    }
+
+    static long toZigZag(final long value)
+    {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long noZigZag(final long value)
+    {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    /*
+     * There is no public way to unmap a buffer, so this goes through Unsafe.invokeCleaner on 9+ and DirectBuffer.cleaner on 8. If neither is reachable the mapping is left to the garbage collector.
+     */
+    static void unmap(@NonNull final ByteBuffer buffer)
+    {
+        if ((false == (buffer instanceof MappedByteBuffer)) || (false == buffer.isDirect()))
+        {
+            return;
+        }
+        try
+        {
+            final Class<?> type = Class.forName("sun.misc.Unsafe");
+
+            final Method clean = type.getMethod("invokeCleaner", ByteBuffer.class);
+
+            final Field field = type.getDeclaredField("theUnsafe");
+
+            field.setAccessible(true);
+
+            clean.invoke(field.get(null), buffer);
+        }
+        catch (final NoSuchMethodException e)
+        {
+            try
+            {
+                final Method cleaner = buffer.getClass().getMethod("cleaner");
+
+                cleaner.setAccessible(true);
+
+                final Object clean = cleaner.invoke(buffer);
+
+                if (null != clean)
+                {
+                    clean.getClass().getMethod("clean").invoke(clean);
+                }
+            }
+            catch (final ReflectiveOperationException | RuntimeException x)
+            {
+                MinioUtils.requireNonNull(x);
+            }
+        }
+        catch (final ReflectiveOperationException | RuntimeException e)
+        {
+            MinioUtils.requireNonNull(e);
+        }
+    }
+}
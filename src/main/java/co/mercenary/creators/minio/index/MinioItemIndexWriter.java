@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.MinioOperations;
+import co.mercenary.creators.minio.data.MinioItem;
+import co.mercenary.creators.minio.data.MinioItemSummary;
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.util.MinioUtils;
+
+@JsonIgnoreType
+public class MinioItemIndexWriter implements AutoCloseable
+{
+    @NonNull
+    private final Path             path;
+
+    @NonNull
+    private final Path             temp;
+
+    @NonNull
+    private final DataOutputStream data;
+
+    private long                   count;
+
+    private int                    rsize;
+
+    private int[]                  rlist = new int[64];
+
+    private byte[]                 prior = new byte[0];
+
+    private boolean                closed;
+
+    public MinioItemIndexWriter(@NonNull final Path path) throws MinioDataException
+    {
+        this.path = MinioUtils.requireNonNull(path).toAbsolutePath();
+
+        this.temp = this.path.resolveSibling(this.path.getFileName().toString() + ".tmp");
+
+        try
+        {
+            this.data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024));
+
+            this.data.write(new byte[MinioItemIndexFormat.HEADER_SIZE]);
+        }
+        catch (final IOException e)
+        {
+            throw new MinioDataException(e);
+        }
+    }
+
+    public long size()
+    {
+        return count;
+    }
+
+    @NonNull
+    public MinioItemIndexWriter add(@NonNull final MinioItem item) throws MinioDataException
+    {
+        return add(new MinioItemSummary(item));
+    }
+
+    @NonNull
+    public MinioItemIndexWriter add(@NonNull final MinioItemSummary item) throws MinioDataException
+    {
+        MinioUtils.isEachNonNull(item);
+
+        if (closed)
+        {
+            throw new MinioDataException(String.format("index (%s) is closed.", path));
+        }
+        final byte[] key = item.getName().getBytes(StandardCharsets.UTF_8);
+
+        if ((count > 0) && (MinioItemIndexFormat.compare(prior, prior.length, key, key.length) >= 0))
+        {
+            throw new MinioDataException(String.format("item (%s) is out of order.", item.getName()));
+        }
+        try
+        {
+            int shared = 0;
+
+            if ((count % MinioItemIndexFormat.RESTART_INTERVAL) == 0)
+            {
+                if (data.size() == Integer.MAX_VALUE)
+                {
+                    throw new MinioDataException(String.format("index (%s) is too large.", path));
+                }
+                if (rsize == rlist.length)
+                {
+                    rlist = Arrays.copyOf(rlist, rsize * 2);
+                }
+                rlist[rsize++] = data.size();
+            }
+            else
+            {
+                final int most = Math.min(prior.length, key.length);
+
+                while ((shared < most) && (prior[shared] == key[shared]))
+                {
+                    shared++;
+                }
+            }
+            MinioItemIndexFormat.writeVarLong(data, shared);
+
+            MinioItemIndexFormat.writeVarLong(data, key.length - shared);
+
+            data.write(key, shared, key.length - shared);
+
+            final String etag = item.getEtag();
+
+            final long time = item.getLastModifiedTime();
+
+            byte flags = 0;
+
+            if (item.isFile())
+            {
+                flags |= MinioItemIndexFormat.FLAG_FILE;
+            }
+            if (MinioItemSummary.NO_TIME != time)
+            {
+                flags |= MinioItemIndexFormat.FLAG_TIME;
+            }
+            if (null != etag)
+            {
+                flags |= MinioItemIndexFormat.FLAG_ETAG;
+            }
+            data.writeByte(flags);
+
+            MinioItemIndexFormat.writeVarLong(data, item.getSize());
+
+            if (MinioItemSummary.NO_TIME != time)
+            {
+                MinioItemIndexFormat.writeVarLong(data, MinioItemIndexFormat.toZigZag(time));
+            }
+            if (null != etag)
+            {
+                final byte[] tags = etag.getBytes(StandardCharsets.UTF_8);
+
+                MinioItemIndexFormat.writeVarLong(data, tags.length);
+
+                data.write(tags);
+            }
+        }
+        catch (final IOException e)
+        {
+            throw new MinioDataException(e);
+        }
+        prior = key;
+
+        count++;
+
+        return this;
+    }
+
+    @Override
+    public void close() throws MinioDataException
+    {
+        if (closed)
+        {
+            return;
+        }
+        closed = true;
+
+        try
+        {
+            final long roff = data.size();
+
+            for (int i = 0; i < rsize; i++)
+            {
+                data.writeInt(rlist[i]);
+            }
+            data.close();
+
+            if (data.size() == Integer.MAX_VALUE)
+            {
+                throw new MinioDataException(String.format("index (%s) is too large.", path));
+            }
+            try (FileChannel chan = FileChannel.open(temp, StandardOpenOption.WRITE))
+            {
+                final ByteBuffer head = ByteBuffer.allocate(MinioItemIndexFormat.HEADER_SIZE);
+
+                head.putInt(MinioItemIndexFormat.MAGIC).putInt(MinioItemIndexFormat.VERSION).putLong(count).putLong(roff).putInt(rsize).putInt(MinioItemIndexFormat.RESTART_INTERVAL);
+
+                head.flip();
+
+                while (head.hasRemaining())
+                {
+                    chan.write(head, head.position());
+                }
+                chan.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final IOException e)
+        {
+            abort();
+
+            throw new MinioDataException(e);
+        }
+    }
+
+    protected void abort()
+    {
+        closed = true;
+
+        try
+        {
+            data.close();
+        }
+        catch (final IOException e)
+        {
+            MinioUtils.requireNonNull(e);
+        }
+        try
+        {
+            Files.deleteIfExists(temp);
+        }
+        catch (final IOException e)
+        {
+            MinioUtils.requireNonNull(e);
+        }
+    }
+
+    public static long write(@NonNull final Path path, @NonNull final Stream<MinioItemSummary> items) throws MinioDataException
+    {
+        MinioUtils.isEachNonNull(path, items);
+
+        final MinioItemIndexWriter writer = new MinioItemIndexWriter(path);
+
+        try
+        {
+            final Iterator<MinioItemSummary> iter = items.iterator();
+
+            while (iter.hasNext())
+            {
+                writer.add(iter.next());
+            }
+        }
+        catch (final MinioDataException | RuntimeException e)
+        {
+            writer.abort();
+
+            throw e;
+        }
+        writer.close();
+
+        return writer.size();
+    }
+
+    public static long writeItems(@NonNull final Path path, @NonNull final Stream<MinioItem> items) throws MinioDataException
+    {
+        MinioUtils.isEachNonNull(path, items);
+
+        return write(path, items.map(MinioItemSummary::new));
+    }
+
+    public static long snapshot(@NonNull final Path path, @NonNull final MinioOperations oper, @NonNull final String bucket, @Nullable final String prefix) throws MinioOperationException, MinioDataException
+    {
+        MinioUtils.isEachNonNull(path, oper, bucket);
+
+        try (Stream<MinioItemSummary> items = oper.findItemSummaries(bucket, prefix, true))
+        {
+            return write(path, items);
+        }
+    }
+}
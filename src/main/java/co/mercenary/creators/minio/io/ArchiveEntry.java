@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.io;
+
+import org.springframework.lang.NonNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.util.MinioUtils;
+import co.mercenary.creators.minio.util.WithDescription;
+import co.mercenary.creators.minio.util.WithName;
+
+@JsonIgnoreType
+public class ArchiveEntry implements WithName, WithDescription
+{
+    public static final long UNKNOWN_SIZE = -1L;
+
+    @NonNull
+    private final String     name;
+
+    private final long       size;
+
+    private final boolean    file;
+
+    public ArchiveEntry(@NonNull final String name, final long size, final boolean file)
+    {
+        this.name = MinioUtils.requireNonNull(name);
+
+        this.size = (size < 0L) ? UNKNOWN_SIZE : size;
+
+        this.file = file;
+    }
+
+    @NonNull
+    @Override
+    public String getName()
+    {
+        return name;
+    }
+
+    public long getSize()
+    {
+        return size;
+    }
+
+    public boolean isSizeKnown()
+    {
+        return UNKNOWN_SIZE != size;
+    }
+
+    public boolean isFile()
+    {
+        return file;
+    }
+
+    @NonNull
+    @Override
+    public String toDescription()
+    {
+        return String.format("name=(%s), size=(%s), file=(%s).", getName(), getSize(), isFile());
+    }
+
+    @NonNull
+    @Override
+    public String toString()
+    {
+        return toDescription();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.io;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.util.MinioUtils;
+
+@JsonIgnoreType
+public abstract class ArchiveReader implements Closeable
+{
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    @Nullable
+    public abstract ArchiveEntry next() throws IOException;
+
+    @NonNull
+    public abstract InputStream getInputStream();
+
+    @NonNull
+    public static ArchiveReader open(@NonNull final InputStream input) throws IOException
+    {
+        MinioUtils.isEachNonNull(input);
+
+        InputStream data = new BufferedInputStream(input, BUFFER_SIZE);
+
+        if (isMagic(data, 0x1F, 0x8B))
+        {
+            data = new BufferedInputStream(new GZIPInputStream(data, BUFFER_SIZE), BUFFER_SIZE);
+        }
+        if (isMagic(data, 'P', 'K', 0x03, 0x04) || isMagic(data, 'P', 'K', 0x05, 0x06))
+        {
+            return new ZipArchiveReader(data);
+        }
+        return new TarArchiveReader(data);
+    }
+
+    protected static boolean isMagic(@NonNull final InputStream input, final int... magic) throws IOException
+    {
+        input.mark(magic.length);
+
+        try
+        {
+            for (final int b : magic)
+            {
+                if (input.read() != b)
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+        finally
+        {
+            input.reset();
+        }
+    }
+}
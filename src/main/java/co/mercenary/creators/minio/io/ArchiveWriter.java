@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.lang.NonNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.util.MinioUtils;
+
+@JsonIgnoreType
+public abstract class ArchiveWriter implements Closeable
+{
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    @NonNull
+    public abstract OutputStream putEntry(@NonNull String name, long size, long time) throws IOException;
+
+    public abstract void closeEntry() throws IOException;
+
+    /*
+     * Completes the archive and flushes it; the target stream is left open for the caller.
+     */
+    public abstract void finish() throws IOException;
+
+    @Override
+    public void close() throws IOException
+    {
+        finish();
+    }
+
+    @NonNull
+    public static ArchiveWriter open(@NonNull final OutputStream output, @NonNull final ArchiveFormat format) throws IOException
+    {
+        MinioUtils.isEachNonNull(output, format);
+
+        switch (format)
+        {
+            case ZIP:
+                return new ZipArchiveWriter(output);
+            case TAR:
+                return new TarArchiveWriter(output);
+            default:
+                return new TarArchiveWriter(new GZIPOutputStream(output, BUFFER_SIZE));
+        }
+    }
+}
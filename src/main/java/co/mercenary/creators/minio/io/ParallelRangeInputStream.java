@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package co.mercenary.creators.minio.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.util.BoundedExecutor;
+import co.mercenary.creators.minio.util.MinioUtils;
+
+@JsonIgnoreType
+public class ParallelRangeInputStream extends InputStream
+{
+    @NonNull
+    private final RangeReader                      reader;
+
+    @NonNull
+    private final BoundedExecutor                  executor;
+
+    @NonNull
+    private final Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+
+    private final long                             size;
+
+    private final int                              part;
+
+    private long                                   offset;
+
+    @Nullable
+    private byte[]                                 buffer;
+
+    private int                                    index;
+
+    private boolean                                closed;
+
+    public ParallelRangeInputStream(@NonNull final RangeReader reader, final long size, final int part, final int depth)
+    {
+        this.reader = MinioUtils.requireNonNull(reader);
+
+        this.size = Math.max(0L, size);
+
+        this.part = Math.max(1, part);
+
+        this.executor = new BoundedExecutor(Math.max(1, depth), Math.max(1, depth));
+
+        for (int i = 0; i < Math.max(1, depth); i++)
+        {
+            schedule();
+        }
+    }
+
+    private void schedule()
+    {
+        if (offset >= size)
+        {
+            return;
+        }
+        final long skip = offset;
+
+        final int leng = (int) Math.min(part, size - skip);
+
+        offset += leng;
+
+        pending.add(executor.submit(() -> {
+
+            try (InputStream input = reader.open(skip, leng))
+            {
+                final byte[] data = new byte[leng];
+
+                int read = 0;
+
+                while (read < leng)
+                {
+                    final int many = input.read(data, read, leng - read);
+
+                    if (many < 0)
+                    {
+                        throw new IOException(String.format("short read at (%s) expected (%s).", skip + read, leng));
+                    }
+                    read += many;
+                }
+                return data;
+            }
+        }));
+    }
+
+    private boolean fill() throws IOException
+    {
+        if (closed)
+        {
+            throw new IOException("stream is closed.");
+        }
+        if ((null != buffer) && (index < buffer.length))
+        {
+            return true;
+        }
+        final CompletableFuture<byte[]> next = pending.poll();
+
+        if (null == next)
+        {
+            return false;
+        }
+        try
+        {
+            buffer = next.join();
+
+            index = 0;
+        }
+        catch (final CompletionException e)
+        {
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+        schedule();
+
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+        if (false == fill())
+        {
+            return -1;
+        }
+        return buffer[index++] & 0xFF;
+    }
+
+    @Override
+    public int read(@NonNull final byte[] b, final int off, final int len) throws IOException
+    {
+        if (len == 0)
+        {
+            return 0;
+        }
+        if (false == fill())
+        {
+            return -1;
+        }
+        final int many = Math.min(len, buffer.length - index);
+
+        System.arraycopy(buffer, index, b, off, many);
+
+        index += many;
+
+        return many;
+    }
+
+    @Override
+    public void close()
+    {
+        if (false == closed)
+        {
+            closed = true;
+
+            pending.forEach(future -> future.cancel(true));
+
+            pending.clear();
+
+            buffer = MinioUtils.NULL();
+
+            executor.close();
+        }
+    }
+
+    @FunctionalInterface
+    public interface RangeReader
+    {
+        @NonNull
+        InputStream open(long skip, long leng) throws MinioOperationException;
+    }
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.util.MinioUtils;
+
+/*
+ * Reads ustar, GNU and pax archives: GNU 'L' long names and pax 'path' and 'size' records are honoured and apply
+ * to the next real entry, the ustar prefix is only read from POSIX 'ustar\0' headers since GNU headers keep times
+ * there, and links, devices and global pax headers are skipped.
+ */
+@JsonIgnoreType
+public class TarArchiveReader extends ArchiveReader
+{
+    private static final int  BLOCK_SIZE = 512;
+
+    @NonNull
+    private final InputStream input;
+
+    @NonNull
+    private final byte[]      block      = new byte[BLOCK_SIZE];
+
+    @NonNull
+    private final EntryStream data       = new EntryStream();
+
+    private long              padding;
+
+    private boolean           done;
+
+    public TarArchiveReader(@NonNull final InputStream input)
+    {
+        this.input = MinioUtils.requireNonNull(input);
+    }
+
+    @Nullable
+    @Override
+    public ArchiveEntry next() throws IOException
+    {
+        skip(data.remaining + padding);
+
+        data.remaining = 0L;
+
+        padding = 0L;
+
+        String name = MinioUtils.NULL();
+
+        long size = ArchiveEntry.UNKNOWN_SIZE;
+
+        while (false == done)
+        {
+            if (false == readBlock())
+            {
+                done = true;
+
+                break;
+            }
+            final byte type = block[156];
+
+            if ((type == 'K') || (type == 'g'))
+            {
+                final long many = parseSize();
+
+                skip(many + toPadding(many));
+
+                continue;
+            }
+            if ((type == 'L') || (type == 'x'))
+            {
+                final byte[] body = readBody(parseSize());
+
+                if (type == 'L')
+                {
+                    name = parseString(body, 0, body.length);
+                }
+                else
+                {
+                    final String path = parsePax(body, "path");
+
+                    final String want = parsePax(body, "size");
+
+                    if (null != path)
+                    {
+                        name = path;
+                    }
+                    if (null != want)
+                    {
+                        size = parsePaxSize(want);
+                    }
+                }
+                continue;
+            }
+            final long leng = (size >= 0L) ? size : parseSize();
+
+            if (null == name)
+            {
+                name = parseName();
+            }
+            data.remaining = leng;
+
+            padding = toPadding(leng);
+
+            if ((type == '0') || (type == 0) || (type == '7'))
+            {
+                return new ArchiveEntry(name, leng, false == name.endsWith("/"));
+            }
+            if (type == '5')
+            {
+                return new ArchiveEntry(name, 0L, false);
+            }
+            skip(data.remaining + padding);
+
+            data.remaining = 0L;
+
+            padding = 0L;
+
+            name = MinioUtils.NULL();
+
+            size = ArchiveEntry.UNKNOWN_SIZE;
+        }
+        return MinioUtils.NULL();
+    }
+
+    @NonNull
+    @Override
+    public InputStream getInputStream()
+    {
+        return data;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        done = true;
+
+        input.close();
+    }
+
+    protected boolean readBlock() throws IOException
+    {
+        int read = 0;
+
+        while (read < BLOCK_SIZE)
+        {
+            final int size = input.read(block, read, BLOCK_SIZE - read);
+
+            if (size < 0)
+            {
+                if (read == 0)
+                {
+                    return false;
+                }
+                throw new EOFException("truncated tar header.");
+            }
+            read += size;
+        }
+        boolean zero = true;
+
+        for (final byte b : block)
+        {
+            if (b != 0)
+            {
+                zero = false;
+
+                break;
+            }
+        }
+        if (zero)
+        {
+            return false;
+        }
+        long want = 0L;
+
+        for (int i = 0; i < BLOCK_SIZE; i++)
+        {
+            want += ((i >= 148) && (i < 156)) ? ' ' : (block[i] & 0xFF);
+        }
+        if (want != parseOctal(148, 8))
+        {
+            throw new IOException("bad tar header checksum.");
+        }
+        return true;
+    }
+
+    @NonNull
+    protected byte[] readBody(final long size) throws IOException
+    {
+        if ((size < 0L) || (size > Integer.MAX_VALUE))
+        {
+            throw new IOException(String.format("bad tar extended header size (%s).", size));
+        }
+        final byte[] body = new byte[(int) size];
+
+        int read = 0;
+
+        while (read < body.length)
+        {
+            final int leng = input.read(body, read, body.length - read);
+
+            if (leng < 0)
+            {
+                throw new EOFException("truncated tar extended header.");
+            }
+            read += leng;
+        }
+        skip(toPadding(size));
+
+        return body;
+    }
+
+    protected void skip(final long size) throws IOException
+    {
+        long left = size;
+
+        while (left > 0L)
+        {
+            final int leng = input.read(block, 0, (int) Math.min(left, BLOCK_SIZE));
+
+            if (leng < 0)
+            {
+                throw new EOFException("truncated tar entry.");
+            }
+            left -= leng;
+        }
+    }
+
+    @NonNull
+    protected String parseName()
+    {
+        final String name = parseString(block, 0, 100);
+
+        if ((block[257] == 'u') && (block[258] == 's') && (block[259] == 't') && (block[260] == 'a') && (block[261] == 'r') && (block[262] == 0) && (block[345] != 0))
+        {
+            return parseString(block, 345, 155) + "/" + name;
+        }
+        return name;
+    }
+
+    protected long parseSize() throws IOException
+    {
+        if ((block[124] & 0x80) != 0)
+        {
+            long size = 0L;
+
+            for (int i = 125; i < 136; i++)
+            {
+                size = (size << 8) | (block[i] & 0xFF);
+            }
+            if (size < 0L)
+            {
+                throw new IOException("bad tar entry size.");
+            }
+            return size;
+        }
+        return parseOctal(124, 12);
+    }
+
+    protected long parseOctal(final int offset, final int length) throws IOException
+    {
+        long value = 0L;
+
+        boolean digits = false;
+
+        for (int i = offset; i < (offset + length); i++)
+        {
+            final byte b = block[i];
+
+            if ((b == 0) || ((b == ' ') && digits))
+            {
+                break;
+            }
+            if (b == ' ')
+            {
+                continue;
+            }
+            if ((b < '0') || (b > '7'))
+            {
+                throw new IOException("bad tar octal field.");
+            }
+            value = (value << 3) + (b - '0');
+
+            digits = true;
+        }
+        return value;
+    }
+
+    protected static long parsePaxSize(@NonNull final String value) throws IOException
+    {
+        try
+        {
+            return Long.parseLong(value.trim());
+        }
+        catch (final NumberFormatException e)
+        {
+            throw new IOException(String.format("bad tar pax size (%s).", value));
+        }
+    }
+
+    @Nullable
+    protected static String parsePax(@NonNull final byte[] body, @NonNull final String key) throws IOException
+    {
+        String value = MinioUtils.NULL();
+
+        int offset = 0;
+
+        while (offset < body.length)
+        {
+            int space = offset;
+
+            while ((space < body.length) && (body[space] != ' '))
+            {
+                space++;
+            }
+            final int leng;
+
+            try
+            {
+                leng = Integer.parseInt(new String(body, offset, space - offset, StandardCharsets.US_ASCII));
+            }
+            catch (final NumberFormatException e)
+            {
+                if (body[offset] == 0)
+                {
+                    break;
+                }
+                throw new IOException("bad tar pax record.");
+            }
+            if ((leng <= (space - offset)) || ((offset + leng) > body.length))
+            {
+                throw new IOException("bad tar pax record.");
+            }
+            final String record = new String(body, space + 1, (offset + leng) - (space + 2), StandardCharsets.UTF_8);
+
+            final int equals = record.indexOf('=');
+
+            if ((equals > 0) && (key.equals(record.substring(0, equals))))
+            {
+                value = record.substring(equals + 1);
+            }
+            offset += leng;
+        }
+        return value;
+    }
+
+    @NonNull
+    protected static String parseString(@NonNull final byte[] bytes, final int offset, final int length)
+    {
+        int leng = 0;
+
+        while ((leng < length) && (bytes[offset + leng] != 0))
+        {
+            leng++;
+        }
+        return new String(bytes, offset, leng, StandardCharsets.UTF_8);
+    }
+
+    protected static long toPadding(final long size)
+    {
+        return (BLOCK_SIZE - (size % BLOCK_SIZE)) % BLOCK_SIZE;
+    }
+
+    protected final class EntryStream extends InputStream
+    {
+        private long remaining;
+
+        @Override
+        public int read() throws IOException
+        {
+            if (remaining <= 0L)
+            {
+                return -1;
+            }
+            final int b = input.read();
+
+            if (b < 0)
+            {
+                throw new EOFException("truncated tar entry.");
+            }
+            remaining--;
+
+            return b;
+        }
+
+        @Override
+        public int read(@NonNull final byte[] bytes, final int offset, final int length) throws IOException
+        {
+            if (length == 0)
+            {
+                return 0;
+            }
+            if (remaining <= 0L)
+            {
+                return -1;
+            }
+            final int leng = input.read(bytes, offset, (int) Math.min(length, remaining));
+
+            if (leng < 0)
+            {
+                throw new EOFException("truncated tar entry.");
+            }
+            remaining -= leng;
+
+            return leng;
+        }
+
+        @Override
+        public int available() throws IOException
+        {
+            return (int) Math.min(remaining, input.available());
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.lang.NonNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.util.MinioUtils;
+
+/*
+ * Writes GNU tar: names longer than the 100 byte header field go in a preceding 'L' entry, and sizes past the
+ * octal limit use the base-256 encoding, both of which TarArchiveReader understands.
+ */
+@JsonIgnoreType
+public class TarArchiveWriter extends ArchiveWriter
+{
+    private static final int   BLOCK_SIZE = 512;
+
+    private static final long  OCTAL_SIZE = 077777777777L;
+
+    @NonNull
+    private final OutputStream output;
+
+    @NonNull
+    private final EntryStream  data       = new EntryStream();
+
+    private boolean            done;
+
+    public TarArchiveWriter(@NonNull final OutputStream output)
+    {
+        this.output = MinioUtils.requireNonNull(output);
+    }
+
+    @NonNull
+    @Override
+    public OutputStream putEntry(@NonNull final String name, final long size, final long time) throws IOException
+    {
+        MinioUtils.isEachNonNull(name);
+
+        if (size < 0L)
+        {
+            throw new IOException(String.format("tar entry (%s) needs a size.", name));
+        }
+        if (data.remaining > 0L)
+        {
+            throw new IOException("previous tar entry is incomplete.");
+        }
+        final byte[] path = name.getBytes(StandardCharsets.UTF_8);
+
+        if (path.length > 100)
+        {
+            output.write(toHeader("././@LongLink".getBytes(StandardCharsets.US_ASCII), path.length + 1, 0L, (byte) 'L'));
+
+            output.write(path);
+
+            output.write(new byte[1 + (int) toPadding(path.length + 1)]);
+        }
+        output.write(toHeader(path, size, time, (byte) '0'));
+
+        data.remaining = size;
+
+        data.padding = toPadding(size);
+
+        return data;
+    }
+
+    @Override
+    public void closeEntry() throws IOException
+    {
+        if (data.remaining > 0L)
+        {
+            throw new IOException(String.format("tar entry is short by (%s) bytes.", data.remaining));
+        }
+        output.write(new byte[(int) data.padding]);
+
+        data.padding = 0L;
+    }
+
+    @Override
+    public void finish() throws IOException
+    {
+        if (false == done)
+        {
+            done = true;
+
+            output.write(new byte[BLOCK_SIZE * 2]);
+
+            if (output instanceof GZIPOutputStream)
+            {
+                ((GZIPOutputStream) output).finish();
+            }
+            output.flush();
+        }
+    }
+
+    @NonNull
+    protected static byte[] toHeader(@NonNull final byte[] path, final long size, final long time, final byte type)
+    {
+        final byte[] block = new byte[BLOCK_SIZE];
+
+        System.arraycopy(path, 0, block, 0, Math.min(path.length, 100));
+
+        toOctal(block, 100, 8, 0644L);
+
+        toOctal(block, 108, 8, 0L);
+
+        toOctal(block, 116, 8, 0L);
+
+        if (size > OCTAL_SIZE)
+        {
+            long bits = size;
+
+            for (int i = 135; i > 124; i--)
+            {
+                block[i] = (byte) bits;
+
+                bits >>>= 8;
+            }
+            block[124] = (byte) 0x80;
+        }
+        else
+        {
+            toOctal(block, 124, 12, size);
+        }
+        toOctal(block, 136, 12, Math.max(0L, time / 1000L));
+
+        block[156] = type;
+
+        System.arraycopy("ustar  \0".getBytes(StandardCharsets.US_ASCII), 0, block, 257, 8);
+
+        for (int i = 148; i < 156; i++)
+        {
+            block[i] = ' ';
+        }
+        long sum = 0L;
+
+        for (final byte b : block)
+        {
+            sum += (b & 0xFF);
+        }
+        toOctal(block, 148, 7, sum);
+
+        return block;
+    }
+
+    protected static void toOctal(@NonNull final byte[] block, final int offset, final int length, final long value)
+    {
+        long bits = value;
+
+        block[offset + length - 1] = 0;
+
+        for (int i = offset + length - 2; i >= offset; i--)
+        {
+            block[i] = (byte) ('0' + (bits & 7L));
+
+            bits >>>= 3;
+        }
+    }
+
+    protected static long toPadding(final long size)
+    {
+        return (BLOCK_SIZE - (size % BLOCK_SIZE)) % BLOCK_SIZE;
+    }
+
+    protected final class EntryStream extends OutputStream
+    {
+        private long remaining;
+
+        private long padding;
+
+        @Override
+        public void write(final int b) throws IOException
+        {
+            if (remaining < 1L)
+            {
+                throw new IOException("tar entry is longer than its size.");
+            }
+            output.write(b);
+
+            remaining--;
+        }
+
+        @Override
+        public void write(@NonNull final byte[] bytes, final int offset, final int length) throws IOException
+        {
+            if (length > remaining)
+            {
+                throw new IOException("tar entry is longer than its size.");
+            }
+            output.write(bytes, offset, length);
+
+            remaining -= length;
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.util.MinioUtils;
+
+@JsonIgnoreType
+public class ZipArchiveReader extends ArchiveReader
+{
+    @NonNull
+    private final ZipInputStream zip;
+
+    @NonNull
+    private final InputStream    data;
+
+    public ZipArchiveReader(@NonNull final InputStream input)
+    {
+        this.zip = new ZipInputStream(MinioUtils.requireNonNull(input));
+
+        this.data = new FilterInputStream(zip)
+        {
+            @Override
+            public void close()
+            {
+            }
+        };
+    }
+
+    @Nullable
+    @Override
+    public ArchiveEntry next() throws IOException
+    {
+        final ZipEntry entry = zip.getNextEntry();
+
+        if (null == entry)
+        {
+            return MinioUtils.NULL();
+        }
+        return new ArchiveEntry(entry.getName(), entry.getSize(), false == entry.isDirectory());
+    }
+
+    @NonNull
+    @Override
+    public InputStream getInputStream()
+    {
+        return data;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        zip.close();
+    }
+}
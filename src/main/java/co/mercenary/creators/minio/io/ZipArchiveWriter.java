@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.lang.NonNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.util.MinioUtils;
+
+@JsonIgnoreType
+public class ZipArchiveWriter extends ArchiveWriter
+{
+    @NonNull
+    private final ZipOutputStream zip;
+
+    @NonNull
+    private final OutputStream    data;
+
+    private boolean               done;
+
+    public ZipArchiveWriter(@NonNull final OutputStream output)
+    {
+        this.zip = new ZipOutputStream(MinioUtils.requireNonNull(output));
+
+        this.data = new FilterOutputStream(zip)
+        {
+            @Override
+            public void write(@NonNull final byte[] bytes, final int offset, final int length) throws IOException
+            {
+                zip.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close()
+            {
+            }
+        };
+    }
+
+    @NonNull
+    @Override
+    public OutputStream putEntry(@NonNull final String name, final long size, final long time) throws IOException
+    {
+        final ZipEntry entry = new ZipEntry(MinioUtils.requireNonNull(name));
+
+        if (time > 0L)
+        {
+            entry.setTime(time);
+        }
+        zip.putNextEntry(entry);
+
+        return data;
+    }
+
+    @Override
+    public void closeEntry() throws IOException
+    {
+        zip.closeEntry();
+    }
+
+    @Override
+    public void finish() throws IOException
+    {
+        if (false == done)
+        {
+            done = true;
+
+            zip.finish();
+
+            zip.flush();
+        }
+    }
+}
@@ -56,26 +56,6 @@ public abstract class AbstractCommon extends AbstractNamed implements WithJSONOp
         }
     }
 
-    @Override
-    public int hashCode()
-    {
-        return toString().hashCode();
-    }
-
-    @Override
-    public boolean equals(final Object other)
-    {
-        if (this == other)
-        {
-            return true;
-        }
-        if (other instanceof AbstractCommon)
-        {
-            return toString().equals(other.toString());
-        }
-        return false;
-    }
-
     @NonNull
     @Override
     @JsonIgnore
@@ -55,7 +55,7 @@ public abstract class AbstractNamed implements WithName, WithDescription
     @Override
     public int hashCode()
     {
-        return toString().hashCode();
+        return getName().hashCode();
     }
 
     @Override
@@ -65,9 +65,9 @@ public abstract class AbstractNamed implements WithName, WithDescription
         {
             return true;
         }
-        if (other instanceof AbstractNamed)
+        if ((null != other) && (getClass() == other.getClass()))
         {
-            return toString().equals(other.toString());
+            return getName().equals(MinioUtils.CAST(other, AbstractNamed.class).getName());
         }
         return false;
     }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package co.mercenary.creators.minio.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.NonNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+
+@JsonIgnoreType
+public class BoundedExecutor implements AutoCloseable
+{
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private final int                  threads;
+
+    @NonNull
+    private final Semaphore            permits;
+
+    @NonNull
+    private final ExecutorService      service;
+
+    public BoundedExecutor(final int threads)
+    {
+        this(threads, threads * 2);
+    }
+
+    public BoundedExecutor(final int threads, final int bound)
+    {
+        if ((threads < 1) || (bound < threads))
+        {
+            throw new IllegalArgumentException(String.format("bad threads %s or bound %s", threads, bound));
+        }
+        this.threads = threads;
+
+        this.permits = new Semaphore(bound);
+
+        final String prefix = "minio-batch-" + POOL_NUMBER.incrementAndGet() + "-";
+
+        final AtomicInteger count = new AtomicInteger();
+
+        this.service = Executors.newFixedThreadPool(threads, runnable -> {
+
+            final Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    @NonNull
+    public <T> CompletableFuture<T> submit(@NonNull final Callable<T> task)
+    {
+        MinioUtils.isEachNonNull(task);
+
+        try
+        {
+            permits.acquire();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new MinioRuntimeException(e);
+        }
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        try
+        {
+            service.execute(() -> {
+
+                try
+                {
+                    future.complete(task.call());
+                }
+                catch (final Throwable e)
+                {
+                    future.completeExceptionally(e);
+                }
+                finally
+                {
+                    permits.release();
+                }
+            });
+        }
+        catch (final RejectedExecutionException e)
+        {
+            permits.release();
+
+            throw new MinioRuntimeException(e);
+        }
+        return future;
+    }
+
+    @NonNull
+    public CompletableFuture<Void> execute(@NonNull final Runnable task)
+    {
+        MinioUtils.isEachNonNull(task);
+
+        return submit(() -> {
+
+            task.run();
+
+            return MinioUtils.NULL();
+        });
+    }
+
+    @Override
+    public void close()
+    {
+        service.shutdown();
+
+        try
+        {
+            while (false == service.awaitTermination(1, TimeUnit.SECONDS))
+            {
+                continue;
+            }
+        }
+        catch (final InterruptedException e)
+        {
+            service.shutdownNow();
+
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+
+/*
+ * Nothing is produced until the first hasNext(), and close() stops the producer.
+ * The stream() must be consumed inside try-with-resources, or a caller that stops
+ * early leaves the producer and its queued results behind.
+ */
+@JsonIgnoreType
+public class CompletionIterator<T> implements Iterator<T>, AutoCloseable
+{
+    private static final AtomicInteger       THREAD_NUMBER = new AtomicInteger();
+
+    private static final long                OFFER_TIMEOUT = 100L;
+
+    @NonNull
+    private final BlockingQueue<Optional<T>> queue;
+
+    @NonNull
+    private final Thread                     thread;
+
+    @NonNull
+    private final AtomicBoolean              started       = new AtomicBoolean();
+
+    @Nullable
+    private Optional<T>                      item;
+
+    @Nullable
+    private volatile Throwable               failed;
+
+    private volatile boolean                 closed;
+
+    private boolean                          done;
+
+    public CompletionIterator(@NonNull final Consumer<Consumer<T>> producer, final int depth)
+    {
+        MinioUtils.isEachNonNull(producer);
+
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, depth));
+
+        this.thread = new Thread(() -> {
+
+            try
+            {
+                producer.accept(this::publish);
+            }
+            catch (final Throwable e)
+            {
+                if (false == closed)
+                {
+                    failed = e;
+                }
+            }
+            try
+            {
+                queue.put(Optional.empty());
+            }
+            catch (final InterruptedException e)
+            {
+                return;
+            }
+        }, "minio-completion-" + THREAD_NUMBER.incrementAndGet());
+
+        this.thread.setDaemon(true);
+    }
+
+    protected void publish(@NonNull final T value)
+    {
+        final Optional<T> next = Optional.of(value);
+
+        try
+        {
+            while (false == closed)
+            {
+                if (queue.offer(next, OFFER_TIMEOUT, TimeUnit.MILLISECONDS))
+                {
+                    return;
+                }
+            }
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        throw new MinioRuntimeException("completion is closed.");
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if ((false == closed) && (started.compareAndSet(false, true)))
+        {
+            thread.start();
+        }
+        if ((null != item) || (done))
+        {
+            return (null != item);
+        }
+        if (closed)
+        {
+            throw new MinioRuntimeException("completion is closed.");
+        }
+        final Optional<T> next;
+
+        try
+        {
+            next = queue.take();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new MinioRuntimeException(e);
+        }
+        if (false == next.isPresent())
+        {
+            done = true;
+
+            final Throwable e = failed;
+
+            if (e instanceof RuntimeException)
+            {
+                throw (RuntimeException) e;
+            }
+            if (null != e)
+            {
+                throw new MinioRuntimeException(e);
+            }
+            return false;
+        }
+        item = next;
+
+        return true;
+    }
+
+    @Override
+    public T next()
+    {
+        if (false == hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+        final T value = item.get();
+
+        item = MinioUtils.NULL();
+
+        return value;
+    }
+
+    @Override
+    public void close()
+    {
+        if (false == closed)
+        {
+            closed = true;
+
+            if (false == started.compareAndSet(false, true))
+            {
+                thread.interrupt();
+            }
+            queue.clear();
+        }
+    }
+
+    @NonNull
+    public Stream<T> stream()
+    {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.NONNULL), false).onClose(this::close);
+    }
+}
@@ -47,6 +47,8 @@ import org.springframework.util.PathMatcher;
 import org.springframework.util.StringUtils;
 import org.xmlpull.v1.XmlPullParserException;
 
+import co.mercenary.creators.minio.content.MinioContentTypeTable;
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
 import io.minio.Result;
 import io.minio.errors.MinioException;
 
@@ -255,11 +257,42 @@ public final class MinioUtils
     {
         if (null != value)
         {
+            if (value.indexOf('"') < 0)
+            {
+                return value;
+            }
             return value.replace(QUOTE_STRING_VALUED, EMPTY_STRING_VALUED);
         }
         return NULL();
     }
 
+    public static int compareKeys(@NonNull final String a, @NonNull final String b)
+    {
+        final int size = Math.min(a.length(), b.length());
+
+        for (int i = 0; i < size; i++)
+        {
+            final char ca = a.charAt(i);
+
+            final char cb = b.charAt(i);
+
+            if (ca != cb)
+            {
+                return toKeyOrdering(ca) - toKeyOrdering(cb);
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    private static int toKeyOrdering(final char c)
+    {
+        if (c < Character.MIN_SURROGATE)
+        {
+            return c;
+        }
+        return (c > Character.MAX_SURROGATE) ? (c - 0x800) : (c + 0x2000);
+    }
+
     @Nullable
     public static String toStorageClass(@Nullable final String value)
     {
@@ -378,7 +411,20 @@ public final class MinioUtils
     @NonNull
     public static <T> Stream<T> getResultAsStream(@NonNull final Iterable<Result<T>> iterable)
     {
-        return StreamSupport.stream(iterable.spliterator(), false).map(result -> getResultNullable(result)).filter(MinioUtils::isNonNull);
+        return StreamSupport.stream(iterable.spliterator(), false).map(result -> getResultOrThrow(result)).filter(MinioUtils::isNonNull);
+    }
+
+    @Nullable
+    public static <T> T getResultOrThrow(@NonNull final Result<T> result)
+    {
+        try
+        {
+            return result.get();
+        }
+        catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
+        {
+            throw new MinioRuntimeException(e);
+        }
     }
 
     @NonNull
@@ -500,35 +546,7 @@ public final class MinioUtils
     @Nullable
     public static String getContentTypeCommon(@Nullable final String name)
     {
-        if ((null == name) || (name.length() < 5))
-        {
-            return NULL();
-        }
-        if (name.endsWith(".json"))
-        {
-            return getJSONContentType();
-        }
-        if (name.endsWith(".html") || name.endsWith(".htm"))
-        {
-            return getHTMLContentType();
-        }
-        if (name.endsWith(".txt") || name.endsWith(".text"))
-        {
-            return getTEXTContentType();
-        }
-        if (name.endsWith(".java"))
-        {
-            return getJAVAContentType();
-        }
-        if (name.endsWith(".properties"))
-        {
-            return getPROPContentType();
-        }
-        if (name.endsWith(".yml") || name.endsWith(".yaml"))
-        {
-            return getYAMLContentType();
-        }
-        return NULL();
+        return MinioContentTypeTable.getCommon().getContentType(name);
     }
 
     @NonNull
@@ -586,6 +604,31 @@ public final class MinioUtils
         throw new IOException(path.toString());
     }
 
+    /*
+     * Reads until the stream ends or most bytes are in hand; the result is only shorter than most when the stream ended first.
+     */
+    @NonNull
+    public static byte[] readInputStream(@NonNull final InputStream input, final int most) throws IOException
+    {
+        requireNonNull(input);
+
+        final byte[] data = new byte[Math.max(0, most)];
+
+        int read = 0;
+
+        while (read < data.length)
+        {
+            final int leng = input.read(data, read, data.length - read);
+
+            if (leng < 0)
+            {
+                return Arrays.copyOf(data, read);
+            }
+            read += leng;
+        }
+        return data;
+    }
+
     @NonNull
     public static Integer getDuration(@NonNull final Long time)
     {
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package co.mercenary.creators.minio.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+
+/*
+ * The producer thread starts on the first hasNext() and stops on close(). The
+ * stream() must be consumed inside try-with-resources, or a caller that stops
+ * early leaves the producer parked on a full queue until the JVM exits.
+ */
+@JsonIgnoreType
+public class PrefetchIterator<T> implements Iterator<T>, AutoCloseable
+{
+    public static final int                DEFAULT_CHUNK = 1000;
+
+    private static final AtomicInteger     THREAD_NUMBER = new AtomicInteger();
+
+    private static final List<?>           END_OF_CHUNK  = Collections.emptyList();
+
+    @NonNull
+    private final BlockingQueue<List<?>>   queue;
+
+    @NonNull
+    private final Thread                   thread;
+
+    @NonNull
+    private final AtomicBoolean            started       = new AtomicBoolean();
+
+    @NonNull
+    private Iterator<T>                    chunk         = Collections.emptyIterator();
+
+    @Nullable
+    private volatile Throwable             failed;
+
+    private volatile boolean               closed;
+
+    private boolean                        done;
+
+    public PrefetchIterator(@NonNull final Iterator<T> source, final int depth)
+    {
+        this(source, depth, DEFAULT_CHUNK);
+    }
+
+    public PrefetchIterator(@NonNull final Iterator<T> source, final int depth, final int size)
+    {
+        MinioUtils.isEachNonNull(source);
+
+        final int most = Math.max(1, size);
+
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, depth));
+
+        this.thread = new Thread(() -> {
+
+            try
+            {
+                List<T> list = new ArrayList<>(most);
+
+                while ((false == closed) && (source.hasNext()))
+                {
+                    list.add(source.next());
+
+                    if (list.size() >= most)
+                    {
+                        queue.put(list);
+
+                        list = new ArrayList<>(most);
+                    }
+                }
+                if (false == list.isEmpty())
+                {
+                    queue.put(list);
+                }
+            }
+            catch (final InterruptedException e)
+            {
+                return;
+            }
+            catch (final Throwable e)
+            {
+                failed = e;
+            }
+            try
+            {
+                queue.put(END_OF_CHUNK);
+            }
+            catch (final InterruptedException e)
+            {
+                return;
+            }
+        }, "minio-prefetch-" + THREAD_NUMBER.incrementAndGet());
+
+        this.thread.setDaemon(true);
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if ((false == closed) && (started.compareAndSet(false, true)))
+        {
+            thread.start();
+        }
+        while ((false == chunk.hasNext()) && (false == done))
+        {
+            if (closed)
+            {
+                throw new MinioRuntimeException("prefetch is closed.");
+            }
+            final List<?> list;
+
+            try
+            {
+                list = queue.take();
+            }
+            catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new MinioRuntimeException(e);
+            }
+            if (END_OF_CHUNK == list)
+            {
+                done = true;
+
+                final Throwable e = failed;
+
+                if (e instanceof RuntimeException)
+                {
+                    throw (RuntimeException) e;
+                }
+                if (null != e)
+                {
+                    throw new MinioRuntimeException(e);
+                }
+            }
+            else
+            {
+                final List<T> next = MinioUtils.CAST(list);
+
+                chunk = next.iterator();
+            }
+        }
+        return chunk.hasNext();
+    }
+
+    @Override
+    public T next()
+    {
+        if (false == hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+        return chunk.next();
+    }
+
+    @Override
+    public void close()
+    {
+        if (false == closed)
+        {
+            closed = true;
+
+            if (false == started.compareAndSet(false, true))
+            {
+                thread.interrupt();
+            }
+            queue.clear();
+        }
+    }
+
+    @NonNull
+    public Stream<T> stream()
+    {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package co.mercenary.creators.minio.util;
+
+import java.io.IOException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.xmlpull.v1.XmlPullParserException;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+import io.minio.Result;
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.InsufficientDataException;
+import io.minio.errors.InternalException;
+import io.minio.errors.MinioException;
+import io.minio.errors.NoResponseException;
+
+@JsonIgnoreType
+public class RetryingResultIterator<T> implements Iterator<T>
+{
+    public static final int                     DEFAULT_RETRIES = 3;
+
+    public static final long                    DEFAULT_BACKOFF = 200L;
+
+    private static final long                   MAXIMUM_BACKOFF = 30000L;
+
+    private static final Set<String>            RETRY_CODES     = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("InternalError", "ServiceUnavailable", "SlowDown", "RequestTimeout", "OperationAborted")));
+
+    @NonNull
+    private final Supplier<Iterable<Result<T>>> source;
+
+    @NonNull
+    private final Function<T, String>           keyed;
+
+    private final int                           retries;
+
+    private final long                          backoff;
+
+    @NonNull
+    private Iterator<Result<T>>                 iterator;
+
+    @Nullable
+    private String                              highest;
+
+    @Nullable
+    private String                              resume;
+
+    @Nullable
+    private T                                   next;
+
+    private int                                 failures;
+
+    private boolean                             resuming;
+
+    public RetryingResultIterator(@NonNull final Supplier<Iterable<Result<T>>> source, @NonNull final Function<T, String> keyed, final int retries, final long backoff)
+    {
+        this.source = MinioUtils.requireNonNull(source);
+
+        this.keyed = MinioUtils.requireNonNull(keyed);
+
+        this.retries = Math.max(0, retries);
+
+        this.backoff = Math.max(0L, backoff);
+
+        this.iterator = source.get().iterator();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        while ((null == next) && (iterator.hasNext()))
+        {
+            final Result<T> result = iterator.next();
+
+            try
+            {
+                final T value = result.get();
+
+                if (null == value)
+                {
+                    continue;
+                }
+                if ((resuming) && (isReplayed(keyed.apply(value))))
+                {
+                    continue;
+                }
+                failures = 0;
+
+                next = value;
+            }
+            catch (final MinioException | InvalidKeyException | NoSuchAlgorithmException | IOException | XmlPullParserException e)
+            {
+                if ((false == isRetryable(e)) || (failures >= retries))
+                {
+                    throw new MinioRuntimeException(String.format("listing failed after (%s) retries at (%s).", failures, highest), e);
+                }
+                sleep(Math.min(MAXIMUM_BACKOFF, backoff << Math.min(failures, 16)));
+
+                failures++;
+
+                resuming = (null != resume);
+
+                iterator = source.get().iterator();
+            }
+        }
+        return null != next;
+    }
+
+    @Override
+    public T next()
+    {
+        if (false == hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+        final T value = next;
+
+        final String key = keyed.apply(value);
+
+        if ((null == highest) || (MinioUtils.compareKeys(key, highest) > 0))
+        {
+            highest = key;
+        }
+        resume = key;
+
+        next = MinioUtils.NULL();
+
+        return value;
+    }
+
+    /*
+     * A restarted listing replays everything already returned, in the same order, so keys are skipped until the last returned one comes round again.
+     * Within a page the client returns objects before common prefixes, so keys are not globally sorted and are only compared while resuming. A key above
+     * everything returned so far cannot have been returned, which ends the replay even if the last returned key has since been deleted.
+     */
+    protected boolean isReplayed(@NonNull final String key)
+    {
+        if (key.equals(resume))
+        {
+            resuming = false;
+
+            return true;
+        }
+        if (MinioUtils.compareKeys(key, highest) > 0)
+        {
+            resuming = false;
+
+            return false;
+        }
+        return true;
+    }
+
+    @NonNull
+    public Stream<T> stream()
+    {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    protected boolean isRetryable(@NonNull final Exception e)
+    {
+        if (e instanceof ErrorResponseException)
+        {
+            return RETRY_CODES.contains(((ErrorResponseException) e).errorResponse().code());
+        }
+        return ((e instanceof IOException) || (e instanceof NoResponseException) || (e instanceof InternalException) || (e instanceof InsufficientDataException) || (e instanceof XmlPullParserException));
+    }
+
+    protected static void sleep(final long time)
+    {
+        try
+        {
+            TimeUnit.MILLISECONDS.sleep(time);
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new MinioRuntimeException(e);
+        }
+    }
+}
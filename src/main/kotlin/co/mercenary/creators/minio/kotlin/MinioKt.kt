@@ -22,6 +22,7 @@ import co.mercenary.creators.minio.MinioOperations
 import co.mercenary.creators.minio.MinioTemplate
 import co.mercenary.creators.minio.data.MinioBucket
 import co.mercenary.creators.minio.data.MinioItem
+import co.mercenary.creators.minio.data.MinioItemSummary
 import co.mercenary.creators.minio.data.MinioObjectStatus
 import co.mercenary.creators.minio.data.MinioUserMetaData
 import co.mercenary.creators.minio.json.JSON
@@ -185,6 +186,10 @@ fun MinioBucket.status(name: String): MinioObjectStatus = withOperations().getOb
 
 fun MinioBucket.items(prefix: String? = null, recursive: Boolean = true): Sequence<MinioItem> = with(withOperations()) { findItems(prefix, recursive).sequence() }
 
+fun MinioBucket.names(prefix: String? = null, recursive: Boolean = true): Sequence<String> = with(withOperations()) { findItemNames(prefix, recursive).sequence() }
+
+fun MinioBucket.summaries(prefix: String? = null, recursive: Boolean = true): Sequence<MinioItemSummary> = with(withOperations()) { findItemSummaries(prefix, recursive).sequence() }
+
 fun MinioBucket.item(name: String): Optional<MinioItem> = withOperations().findItem(name)
 
 fun MinioBucket.metaDataOf(name: String): MetaDataOf = with(withOperations()) { MetaDataOf({ getUserMetaData(name) }, { meta -> setUserMetaData(name, meta) }, { meta -> addUserMetaData(name, meta) }) }
@@ -215,6 +220,10 @@ fun MinioOperations.items(bucket: String, recursive: Boolean = true): Sequence<M
 
 fun MinioOperations.items(bucket: String, prefix: String? = null, recursive: Boolean = true): Sequence<MinioItem> = findItems(bucket, prefix, recursive).sequence()
 
+fun MinioOperations.names(bucket: String, prefix: String? = null, recursive: Boolean = true): Sequence<String> = findItemNames(bucket, prefix, recursive).sequence()
+
+fun MinioOperations.summaries(bucket: String, prefix: String? = null, recursive: Boolean = true): Sequence<MinioItemSummary> = findItemSummaries(bucket, prefix, recursive).sequence()
+
 fun MinioOperations.item(bucket: String, name: String): Optional<MinioItem> = findItem(bucket, name)
 
 fun MinioOperations.exists(bucket: String, name: String): Boolean = isObject(bucket, name)
@@ -253,6 +262,10 @@ fun MinioTemplate.items(bucket: String, recursive: Boolean = true): Sequence<Min
 
 fun MinioTemplate.items(bucket: String, prefix: String? = null, recursive: Boolean = true): Sequence<MinioItem> = findItems(bucket, prefix, recursive).sequence()
 
+fun MinioTemplate.names(bucket: String, prefix: String? = null, recursive: Boolean = true): Sequence<String> = findItemNames(bucket, prefix, recursive).sequence()
+
+fun MinioTemplate.summaries(bucket: String, prefix: String? = null, recursive: Boolean = true): Sequence<MinioItemSummary> = findItemSummaries(bucket, prefix, recursive).sequence()
+
 fun MinioTemplate.item(bucket: String, name: String): Optional<MinioItem> = findItem(bucket, name)
 
 fun MinioTemplate.exists(bucket: String, name: String): Boolean = isObject(bucket, name)
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.util.MinioUtils;
+
+public class CompareKeysTest
+{
+    private static final String[] PARTS = { "a", "b", "/", "-", "Z", "\u00e9", "\u4e2d", "\uff5e", "\ud83d\ude00", "\ud800\udc00" };
+
+    @Test
+    void test() throws Exception
+    {
+        assertEquals(0, MinioUtils.compareKeys("a/b", "a/b"), () -> "equal");
+
+        assertTrue(MinioUtils.compareKeys("a", "a/") < 0, () -> "prefix first");
+
+        assertTrue(MinioUtils.compareKeys("a/", "a0") < 0, () -> "slash before digit");
+
+        assertTrue(MinioUtils.compareKeys("\uff5e", "\ud83d\ude00") < 0, () -> "supplementary after BMP");
+
+        final Random rand = new Random(42L);
+
+        for (int i = 0; i < 10000; i++)
+        {
+            final String a = random(rand);
+
+            final String b = random(rand);
+
+            assertEquals(Integer.signum(utf8(a, b)), Integer.signum(MinioUtils.compareKeys(a, b)), () -> a + " <> " + b);
+        }
+    }
+
+    private static String random(final Random rand)
+    {
+        final StringBuilder buff = new StringBuilder();
+
+        final int size = rand.nextInt(6);
+
+        for (int i = 0; i < size; i++)
+        {
+            buff.append(PARTS[rand.nextInt(PARTS.length)]);
+        }
+        return buff.toString();
+    }
+
+    private static int utf8(final String a, final String b)
+    {
+        final byte[] x = a.getBytes(StandardCharsets.UTF_8);
+
+        final byte[] y = b.getBytes(StandardCharsets.UTF_8);
+
+        final int size = Math.min(x.length, y.length);
+
+        for (int i = 0; i < size; i++)
+        {
+            final int diff = (x[i] & 0xFF) - (y[i] & 0xFF);
+
+            if (diff != 0)
+            {
+                return diff;
+            }
+        }
+        return x.length - y.length;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.util.CompletionIterator;
+
+public class CompletionIteratorTest
+{
+    @Test
+    void never() throws Exception
+    {
+        final AtomicInteger calls = new AtomicInteger();
+
+        new CompletionIterator<String>(publish -> calls.incrementAndGet(), 1).stream().close();
+
+        Thread.sleep(100L);
+
+        assertEquals(0, calls.get(), () -> "closed before use never produces");
+    }
+
+    @Test
+    void early() throws Exception
+    {
+        final CountDownLatch done = new CountDownLatch(1);
+
+        final Stream<Integer> list = new CompletionIterator<Integer>(publish -> {
+
+            try
+            {
+                for (int i = 0; i < 1000; i++)
+                {
+                    publish.accept(i);
+                }
+            }
+            finally
+            {
+                done.countDown();
+            }
+        }, 1).stream();
+
+        try (Stream<Integer> stop = list)
+        {
+            assertEquals(0, stop.iterator().next().intValue(), () -> "first result");
+        }
+        assertTrue(done.await(5L, TimeUnit.SECONDS), () -> "producer stopped on close");
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.InputStream;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.MinioTemplate;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import io.minio.MinioClient;
+import io.minio.ObjectStat;
+
+public class CopyObjectLargeTest
+{
+    private static final long SIZE = 6L * 1024L * 1024L * 1024L;
+
+    @Test
+    void test() throws Exception
+    {
+        final AtomicInteger writes = new AtomicInteger();
+
+        final MinioClient client = new MinioClient("http://localhost:9000", "access", "secret")
+        {
+            @Override
+            public ObjectStat statObject(final String bucket, final String name)
+            {
+                return new ObjectStat(bucket, name, new Date(), SIZE, "\"etag\"", "application/octet-stream");
+            }
+
+            @Override
+            public void putObject(final String bucket, final String name, final InputStream input, final long size, final Map<String, String> head)
+            {
+                writes.incrementAndGet();
+            }
+
+            @Override
+            public void removeObject(final String bucket, final String name)
+            {
+                writes.incrementAndGet();
+            }
+        };
+        final MinioTemplate oper = new MinioTemplate("http://localhost:9000", "access", "secret", null)
+        {
+            @Override
+            protected MinioClient getMinioClient()
+            {
+                return client;
+            }
+        };
+        assertThrows(MinioOperationException.class, () -> oper.copyObject("bucket", "large.bin", "bucket", (String) null));
+
+        assertThrows(MinioOperationException.class, () -> oper.copyObject("bucket", "large.bin", "bucket", "large.bin", null));
+
+        assertEquals(0, writes.get(), () -> "self copy must not write or delete");
+    }
+}
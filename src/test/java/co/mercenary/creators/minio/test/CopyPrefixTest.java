@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.data.MinioBatchReport;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.util.ListingMinioTemplate;
+import static co.mercenary.creators.minio.util.ListingMinioTemplate.file;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CopyPrefixTest
+{
+    @Test
+    void overlap() throws Exception
+    {
+        final ListingMinioTemplate oper = template();
+
+        assertThrows(MinioOperationException.class, () -> oper.copyPrefix("bucket", "data/", "bucket"), () -> "same prefix");
+
+        assertThrows(MinioOperationException.class, () -> oper.movePrefix("bucket", "data/", "bucket", "data/sub/"), () -> "target inside source");
+
+        assertThrows(MinioOperationException.class, () -> oper.copyPrefix("bucket", "data/sub/", "bucket", "data/"), () -> "source inside target");
+
+        assertTrue(oper.getCopies().isEmpty(), () -> "nothing copied");
+    }
+
+    @Test
+    void rewrite() throws Exception
+    {
+        final ListingMinioTemplate oper = template();
+
+        final MinioBatchReport report = oper.copyPrefix("bucket", "data/", "other", "copy/");
+
+        assertEquals(2L, report.getSucceeded(), () -> report.getFailures().toString());
+
+        assertEquals(Arrays.asList("data/a.txt -> other/copy/a.txt", "data/x/b.txt -> other/copy/x/b.txt"), sorted(oper.getCopies()), () -> "rewritten names");
+
+        assertTrue(oper.getRemoved().isEmpty(), () -> "copy removes nothing");
+
+        oper.getCopies().clear();
+
+        oper.copyPrefix("bucket", "data/", "other");
+
+        assertEquals(Arrays.asList("data/a.txt -> other/data/a.txt", "data/x/b.txt -> other/data/x/b.txt"), sorted(oper.getCopies()), () -> "names kept");
+    }
+
+    @Test
+    void failed() throws Exception
+    {
+        final ListingMinioTemplate oper = template().setCopyFailure("data/x/b.txt");
+
+        final MinioBatchReport report = oper.movePrefix("bucket", "data/", "bucket", "moved/");
+
+        assertEquals(2L, report.getCount(), () -> "listed");
+
+        assertEquals(1L, report.getSucceeded(), () -> "moved");
+
+        assertEquals("data/x/b.txt", report.getFailures().get(0).getName(), () -> "failed copy");
+
+        assertEquals(Collections.singletonList("data/a.txt"), oper.getRemoved(), () -> "a failed copy is never deleted");
+    }
+
+    private static ListingMinioTemplate template()
+    {
+        return new ListingMinioTemplate().setListing("bucket", "data/", true, file("data/a.txt", 10L), file("data/x/b.txt", 20L));
+    }
+
+    private static List<String> sorted(final List<String> list)
+    {
+        final List<String> copy = new ArrayList<>(list);
+
+        Collections.sort(copy);
+
+        return copy;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.MinioTemplate;
+import co.mercenary.creators.minio.data.MinioBatchFailure;
+import io.minio.MinioClient;
+import io.minio.Result;
+import io.minio.messages.DeleteError;
+
+public class DeleteObjectsTest
+{
+    @Test
+    void test() throws Exception
+    {
+        final AtomicInteger deleted = new AtomicInteger();
+
+        final MinioClient client = new MinioClient("http://localhost:9000", "access", "secret")
+        {
+            @Override
+            public Iterable<Result<DeleteError>> removeObject(final String bucket, final Iterable<String> names)
+            {
+                names.forEach(name -> deleted.incrementAndGet());
+
+                return Collections.emptyList();
+            }
+        };
+        final MinioTemplate oper = new MinioTemplate("http://localhost:9000", "access", "secret", null)
+        {
+            @Override
+            protected MinioClient getMinioClient()
+            {
+                return client;
+            }
+        };
+        final Stream<String> names = Stream.iterate(0, i -> i + 1).limit(2500).map(i -> {
+
+            if (i == 2400)
+            {
+                throw new IllegalStateException("source failed");
+            }
+            return "key" + i;
+        });
+        final List<MinioBatchFailure> failures = oper.deleteObjects("bucket", names).collect(Collectors.toCollection(ArrayList::new));
+
+        assertEquals(2000, deleted.get(), () -> "full batches sent");
+
+        assertEquals(1, failures.size(), () -> failures.toString());
+
+        assertEquals("bucket", failures.get(0).getName(), () -> "stream failure");
+
+        assertEquals("source failed", failures.get(0).getReason(), () -> "stream failure reason");
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.MinioOperations;
+import co.mercenary.creators.minio.data.MinioBucket;
+import co.mercenary.creators.minio.data.MinioItem;
+import co.mercenary.creators.minio.data.MinioObjectStatus;
+import co.mercenary.creators.minio.data.MinioUpload;
+import co.mercenary.creators.minio.data.MinioUserMetaData;
+
+public class EqualsHashCodeTest
+{
+    private static final Date TIME = new Date(1500000000000L);
+
+    @Test
+    void test() throws Exception
+    {
+        final MinioOperations a = operations();
+
+        final MinioOperations b = operations();
+
+        check(new MinioItem("a.txt", "bucket", 5L, true, "etag", "text/plain", () -> TIME, "STANDARD", a), new MinioItem("a.txt", "bucket", 5L, true, "etag", "text/plain", () -> new Date(TIME.getTime()), "STANDARD", b), new MinioItem("a.txt", "bucket", 5L, true, "other", "text/plain", () -> TIME, "STANDARD", a), "item");
+
+        check(new MinioItem("a.txt", "bucket", 5L, true, "etag", "text/plain", () -> TIME, "STANDARD", a), new MinioItem("a.txt", "bucket", 5L, true, "etag", "text/plain", () -> TIME, "STANDARD", b), new MinioItem("a.txt", "other", 5L, true, "etag", "text/plain", () -> TIME, "STANDARD", a), "item bucket");
+
+        check(new MinioBucket("bucket", () -> TIME, a), new MinioBucket("bucket", () -> TIME, b), new MinioBucket("bucket", () -> new Date(0L), a), "bucket");
+
+        check(new MinioUpload("a.bin", "bucket", "id", 5L, () -> TIME, a), new MinioUpload("a.bin", "bucket", "id", 5L, () -> TIME, b), new MinioUpload("a.bin", "bucket", "other", 5L, () -> TIME, a), "upload");
+
+        check(new MinioObjectStatus("a.txt", "bucket", 5L, "text/plain", "etag", () -> TIME, Collections.singletonMap("k", "v")), new MinioObjectStatus("a.txt", "bucket", 5L, "text/plain", "etag", () -> TIME, Collections.singletonMap("k", "v")), new MinioObjectStatus("a.txt", "bucket", 5L, "text/plain", "etag", () -> TIME, Collections.singletonMap("k", "w")), "status");
+
+        check(new MinioUserMetaData("key", "value"), new MinioUserMetaData("key", "value"), new MinioUserMetaData("key", "other"), "metadata");
+
+        assertNotEquals(new MinioItem("a.txt", "bucket", 5L, true, "etag", "text/plain", () -> TIME, "STANDARD", a), new MinioObjectStatus("a.txt", "bucket", 5L, "text/plain", "etag", () -> TIME, Collections.emptyMap()), () -> "different types");
+    }
+
+    private static void check(final Object self, final Object same, final Object diff, final String what)
+    {
+        assertEquals(self, self, () -> what + " reflexive");
+
+        assertEquals(self, same, () -> what + " equal");
+
+        assertEquals(same, self, () -> what + " symmetric");
+
+        assertEquals(self.hashCode(), same.hashCode(), () -> what + " hash");
+
+        assertEquals(self.hashCode(), self.hashCode(), () -> what + " cached hash");
+
+        assertNotEquals(self, diff, () -> what + " differs");
+
+        assertNotEquals(diff, self, () -> what + " differs symmetric");
+
+        assertNotEquals(self, null, () -> what + " null");
+    }
+
+    private static MinioOperations operations()
+    {
+        return (MinioOperations) Proxy.newProxyInstance(MinioOperations.class.getClassLoader(), new Class<?>[] { MinioOperations.class }, (self, method, args) -> {
+
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.data.MinioBatchReport;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.io.ArchiveEntry;
+import co.mercenary.creators.minio.io.ArchiveFormat;
+import co.mercenary.creators.minio.io.ArchiveReader;
+import co.mercenary.creators.minio.util.ListingMinioTemplate;
+import static co.mercenary.creators.minio.util.ListingMinioTemplate.file;
+
+public class GetArchiveTest
+{
+    @Test
+    void test() throws Exception
+    {
+        final ListingMinioTemplate oper = new ListingMinioTemplate()
+        {
+            @Override
+            public InputStream getObjectInputStream(final String bucket, final String name) throws MinioOperationException
+            {
+                if (name.endsWith(".bin"))
+                {
+                    throw new MinioOperationException(String.format("no such object (%s).", name));
+                }
+                return new ByteArrayInputStream(name.getBytes());
+            }
+        };
+        oper.setListing("bucket", "data/", true, file("data/a.txt", 10L), file("data/big.bin", 9L * 1024L * 1024L), file("data/c.txt", 10L));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        final MinioBatchReport report = oper.getArchive("bucket", "data/", bytes, ArchiveFormat.TAR);
+
+        assertEquals(3L, report.getCount(), () -> "listed");
+
+        assertEquals(2L, report.getSucceeded(), () -> "written");
+
+        assertEquals(1L, report.getFailed(), () -> report.getFailures().toString());
+
+        assertEquals("data/big.bin", report.getFailures().get(0).getName(), () -> "failed entry");
+
+        final List<String> names = new ArrayList<>();
+
+        try (ArchiveReader reader = ArchiveReader.open(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            ArchiveEntry entry;
+
+            while (null != (entry = reader.next()))
+            {
+                names.add(entry.getName());
+            }
+        }
+        assertEquals(Arrays.asList("a.txt", "c.txt"), names, () -> "archive entries");
+    }
+}
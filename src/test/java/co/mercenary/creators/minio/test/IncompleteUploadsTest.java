@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.MinioTemplate;
+import co.mercenary.creators.minio.data.MinioUpload;
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+import io.minio.MinioClient;
+import io.minio.Result;
+import io.minio.errors.InvalidBucketNameException;
+import io.minio.errors.NoResponseException;
+import io.minio.messages.Upload;
+import static co.mercenary.creators.minio.util.ListingMinioTemplate.upload;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IncompleteUploadsTest
+{
+    @Test
+    void test() throws Exception
+    {
+        final Deque<Iterable<Result<Upload>>> pages = new ArrayDeque<>();
+
+        pages.add(Arrays.asList(new Result<>(upload("a", "1", "2018-01-01T00:00:00.000Z"), null), new Result<>(upload("a", "2", "2018-01-02T00:00:00.000Z"), null), new Result<>(null, new NoResponseException())));
+
+        pages.add(Arrays.asList(new Result<>(upload("a", "1", "2018-01-01T00:00:00.000Z"), null), new Result<>(upload("a", "2", "2018-01-02T00:00:00.000Z"), null), new Result<>(upload("b", "3", "2018-01-01T00:00:00.000Z"), null)));
+
+        try (Stream<MinioUpload> list = template(pages).getIncompleteUploads("bucket", null, true))
+        {
+            assertEquals(Arrays.asList("a:1", "a:2", "b:3"), list.map(item -> item.getName() + ":" + item.getUploadId()).collect(Collectors.toList()), () -> "resumed after a failed page");
+        }
+        pages.add(Arrays.asList(new Result<>(upload("a", "1", "2018-01-01T00:00:00.000Z"), null), new Result<>(null, new InvalidBucketNameException("bucket", "bad"))));
+
+        try (Stream<MinioUpload> list = template(pages).getIncompleteUploads("bucket", null, true))
+        {
+            assertThrows(MinioRuntimeException.class, () -> list.collect(Collectors.toList()), () -> "failure is not dropped");
+        }
+    }
+
+    private static MinioTemplate template(final Deque<Iterable<Result<Upload>>> pages) throws Exception
+    {
+        final MinioClient client = new MinioClient("http://localhost:9000", "access", "secret")
+        {
+            @Override
+            public Iterable<Result<Upload>> listIncompleteUploads(final String bucket, final String prefix, final boolean recursive)
+            {
+                return pages.remove();
+            }
+        };
+        final MinioTemplate oper = new MinioTemplate("http://localhost:9000", "access", "secret", null)
+        {
+            @Override
+            protected MinioClient getMinioClient()
+            {
+                return client;
+            }
+        };
+        oper.setListingBackoff(Duration.ZERO);
+
+        return oper;
+    }
+}
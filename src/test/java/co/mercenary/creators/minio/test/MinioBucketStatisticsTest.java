@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.batch.MinioBucketStatistics;
+import co.mercenary.creators.minio.batch.MinioBucketStatisticsAggregator;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import co.mercenary.creators.minio.util.ListingMinioTemplate;
+import io.minio.errors.InvalidBucketNameException;
+import static co.mercenary.creators.minio.util.ListingMinioTemplate.dir;
+import static co.mercenary.creators.minio.util.ListingMinioTemplate.file;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MinioBucketStatisticsTest
+{
+    @Test
+    void test() throws Exception
+    {
+        final ListingMinioTemplate oper = new ListingMinioTemplate();
+
+        oper.setListing("bucket", "", false, file("b.txt", 5L), dir("a/"), dir("c/"));
+
+        oper.setListing("bucket", "a/", true, file("a/x.png", 10L), file("a/y/z.png", 20L));
+
+        oper.setListing("bucket", "c/", true, file("c/z.txt", 7L));
+
+        final MinioBucketStatistics stats = MinioBucketStatisticsAggregator.collect(oper, "bucket", "");
+
+        assertTrue(stats.getFailures().isEmpty(), () -> stats.getFailures().toString());
+
+        assertEquals(4L, stats.getTotals().getCount(), () -> "total count");
+
+        assertEquals(42L, stats.getTotals().getBytes(), () -> "total bytes");
+
+        assertEquals(Arrays.asList("", "a/", "c/"), new ArrayList<>(stats.getPrefixes().keySet()), () -> "shards");
+
+        assertEquals(30L, stats.getPrefixes().get("a/").getBytes(), () -> "a/ bytes");
+
+        assertEquals(2L, stats.getContentTypes().get("image/png").getCount(), () -> "png count");
+
+        final ListingMinioTemplate fail = new ListingMinioTemplate();
+
+        fail.setListing("bucket", "", false, file("b.txt", 5L));
+
+        fail.setFailure("bucket", "", false, new InvalidBucketNameException("bucket", "root listing failed"));
+
+        assertThrows(MinioOperationException.class, () -> MinioBucketStatisticsAggregator.collect(fail, "bucket", ""), () -> "root failure");
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.content.MinioCachingContentTypeProbe;
+import co.mercenary.creators.minio.content.MinioContentTypeProbe;
+
+public class MinioCachingContentTypeProbeTest
+{
+    @Test
+    void test() throws Exception
+    {
+        final AtomicInteger calls = new AtomicInteger();
+
+        final MinioCachingContentTypeProbe probe = new MinioCachingContentTypeProbe(new MinioContentTypeProbe()
+        {
+            @Override
+            public String getContentType(final String name)
+            {
+                calls.incrementAndGet();
+
+                return name.endsWith(".png") ? "image/png" : null;
+            }
+        }, 2);
+
+        assertEquals("image/png", probe.getContentType("a/b.png"), () -> "first lookup");
+
+        assertEquals("image/png", probe.getContentType("c/d.png"), () -> "cached lookup");
+
+        assertEquals(1, calls.get(), () -> "one delegate call per extension");
+
+        assertNull(probe.getContentType("e.zzz"), () -> "unknown extension");
+
+        assertNull(probe.getContentType("f.zzz"), () -> "cached unknown extension");
+
+        assertEquals(2, calls.get(), () -> "misses are cached too");
+
+        assertEquals(2L, probe.getHitCount(), () -> "hits");
+
+        assertEquals(2L, probe.getMissCount(), () -> "misses");
+
+        probe.getContentType("g.txt");
+
+        probe.getContentType("h.txt");
+
+        assertEquals(2, probe.size(), () -> "bounded cache");
+
+        assertEquals(4, calls.get(), () -> "extensions past the bound are not cached");
+
+        probe.getContentType("dir.png/profile");
+
+        probe.getContentType(".profile");
+
+        assertEquals(6, calls.get(), () -> "names without an extension go to the delegate");
+
+        probe.clear();
+
+        assertEquals(0, probe.size(), () -> "cleared");
+    }
+
+    @Test
+    void compound() throws Exception
+    {
+        final MinioCachingContentTypeProbe probe = new MinioCachingContentTypeProbe(new MinioContentTypeProbe()
+        {
+            @Override
+            public String getContentType(final String name)
+            {
+                return name.endsWith(".tar.gz") ? "application/x-gtar" : name.endsWith(".gz") ? "application/gzip" : null;
+            }
+        });
+        assertEquals("application/x-gtar", probe.getContentType("x.tar.gz"), () -> "compound suffix");
+
+        assertEquals("application/gzip", probe.getContentType("x.gz"), () -> "final suffix is cached apart");
+
+        assertEquals("application/x-gtar", probe.getContentType("dir/y.TAR.GZ"), () -> "cached compound suffix");
+
+        assertEquals(1L, probe.getHitCount(), () -> "hits");
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import co.mercenary.creators.minio.content.MinioContentTypeProbe;
+import co.mercenary.creators.minio.content.MinioContentTypeProbeMimeTypesAdapter;
+
+public class MinioContentTypeRemoteTest
+{
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13, 'I', 'H', 'D', 'R' };
+
+    @Test
+    void test() throws Exception
+    {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+
+        server.createContext("/", exchange -> {
+
+            final String path = exchange.getRequestURI().getPath();
+
+            calls.add(exchange.getRequestMethod() + " " + path + " " + exchange.getRequestHeaders().getFirst("Range"));
+
+            exchange.getResponseHeaders().add("Content-Type", path.equals("/image") ? "image/gif" : "application/octet-stream");
+
+            if ("HEAD".equals(exchange.getRequestMethod()))
+            {
+                exchange.sendResponseHeaders(200, -1);
+            }
+            else
+            {
+                exchange.sendResponseHeaders(206, PNG.length);
+
+                try (OutputStream output = exchange.getResponseBody())
+                {
+                    output.write(PNG);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+
+        try
+        {
+            final String base = "http://127.0.0.1:" + server.getAddress().getPort();
+
+            final MinioContentTypeProbe probe = MinioContentTypeProbeMimeTypesAdapter.instance();
+
+            assertEquals("image/png", probe.getContentType(new URL(base + "/blob"), 16), () -> "sniffed from a ranged GET");
+
+            assertEquals("image/gif", probe.getContentType(new URL(base + "/image"), 16), () -> "HEAD type is enough");
+
+            assertEquals("[HEAD /blob null, GET /blob bytes=0-15, HEAD /image null]", calls.toString(), () -> "requests");
+        }
+        finally
+        {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.MinioOperations;
+import co.mercenary.creators.minio.MinioTemplate;
+import co.mercenary.creators.minio.batch.MinioContentTypeRepair;
+import co.mercenary.creators.minio.batch.MinioContentTypeReport;
+import co.mercenary.creators.minio.content.MinioContentTypeProbeMimeTypesAdapter;
+import co.mercenary.creators.minio.content.tika.MinioContentTypeProbeTikaAdapter;
+import co.mercenary.creators.minio.data.MinioItem;
+import co.mercenary.creators.minio.data.MinioObjectStatus;
+import co.mercenary.creators.minio.util.MinioUtils;
+import io.minio.CopyConditions;
+import io.minio.MinioClient;
+import io.minio.ObjectStat;
+
+public class MinioContentTypeRepairTest
+{
+    private static final byte[] PNG  = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13, 'I', 'H', 'D', 'R' };
+
+    private static final long   HUGE = 6L * 1024L * 1024L * 1024L;
+
+    @Test
+    void replaceable() throws Exception
+    {
+        assertTrue(MinioContentTypeRepair.isReplaceable("application/octet-stream", "image/png"), () -> "generic stored type");
+
+        assertTrue(MinioContentTypeRepair.isReplaceable("", "image/png"), () -> "missing stored type");
+
+        assertTrue(MinioContentTypeRepair.isReplaceable("text/plain", "image/png"), () -> "specific probe result");
+
+        assertFalse(MinioContentTypeRepair.isReplaceable("image/png; charset=x", "IMAGE/PNG"), () -> "same media type");
+
+        assertFalse(MinioContentTypeRepair.isReplaceable("text/plain", "application/octet-stream"), () -> "probe found nothing");
+
+        assertFalse(MinioContentTypeRepair.isReplaceable("text/plain", null), () -> "no probe result");
+
+        assertFalse(MinioContentTypeRepair.isReplaceable("application/vnd.openxmlformats-officedocument.wordprocessingml.document", "application/zip"), () -> "container type");
+
+        assertTrue(MinioContentTypeRepair.isReplaceable("application/octet-stream", "application/zip"), () -> "container type over nothing");
+    }
+
+    @Test
+    void repair() throws Exception
+    {
+        final Map<String, String> set = new ConcurrentHashMap<>();
+
+        final AtomicInteger stats = new AtomicInteger();
+
+        final MinioOperations oper = (MinioOperations) Proxy.newProxyInstance(MinioOperations.class.getClassLoader(), new Class<?>[] { MinioOperations.class }, (self, method, args) -> {
+
+            switch (method.getName())
+            {
+                case "findItems":
+                    return Stream.of(item((MinioOperations) self, "a.bin", PNG.length), item((MinioOperations) self, "b.iso", HUGE), item((MinioOperations) self, "c.txt", 5L));
+                case "getObjectStatus":
+                    stats.incrementAndGet();
+                    return status(args[1].toString());
+                case "getObjectInputStream":
+                    return new ByteArrayInputStream(args[1].toString().endsWith(".bin") ? PNG : "hello".getBytes(StandardCharsets.US_ASCII));
+                case "setContentType":
+                    set.put(((MinioObjectStatus) args[0]).getName(), args[1].toString());
+                    return Boolean.TRUE;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        final MinioContentTypeReport report = new MinioContentTypeRepair(oper, "bucket").setContentTypeProbe(MinioContentTypeProbeMimeTypesAdapter.instance()).repair();
+
+        assertTrue(report.isSuccessful(), () -> report.getFailures().toString());
+
+        assertEquals(3L, report.getScanned(), () -> "scanned");
+
+        assertEquals(1L, report.getSkipped(), () -> "too large to rewrite");
+
+        assertEquals(1L, report.getChanged(), () -> "changed");
+
+        assertEquals(Collections.singletonMap("a.bin", "image/png"), set, () -> "rewrites");
+
+        assertEquals(3, stats.get(), () -> "one status read per object");
+    }
+
+    @Test
+    void rewrite() throws Exception
+    {
+        final Map<String, String> copy = new ConcurrentHashMap<>();
+
+        final MinioClient client = new MinioClient("http://localhost:9000", "access", "secret")
+        {
+            @Override
+            public ObjectStat statObject(final String bucket, final String name)
+            {
+                throw new IllegalStateException("status read again");
+            }
+
+            @Override
+            public void copyObject(final String bucket, final String name, final String target, final String object, final CopyConditions conditions, final Map<String, String> meta)
+            {
+                copy.putAll(meta);
+
+                copy.put("if-match", conditions.getConditions().get("x-amz-copy-source-if-match"));
+            }
+        };
+        final MinioTemplate oper = new MinioTemplate("http://localhost:9000", "access", "secret", null)
+        {
+            @Override
+            protected MinioClient getMinioClient()
+            {
+                return client;
+            }
+        };
+        final Map<String, String> head = new LinkedHashMap<>();
+
+        head.put("Cache-Control", "no-cache");
+
+        head.put("Content-Type", "application/octet-stream");
+
+        final MinioObjectStatus status = new MinioObjectStatus("a.bin", "bucket", PNG.length, "application/octet-stream", "application/octet-stream", "etag", () -> new Date(), Collections.singletonMap("kept", "1"), head);
+
+        assertTrue(oper.setContentType(status, "image/png"), () -> "rewritten");
+
+        assertEquals("image/png", copy.get("Content-Type"), () -> "new type");
+
+        assertEquals("no-cache", copy.get("Cache-Control"), () -> "stored headers kept");
+
+        assertEquals("1", copy.get("x-amz-meta-kept"), () -> "user metadata kept");
+
+        assertEquals("etag", MinioUtils.toETagSequence(copy.get("if-match")), () -> "conditional on the status etag");
+    }
+
+    @Test
+    void probe() throws Exception
+    {
+        assertTrue(MinioContentTypeRepair.getDefaultContentTypeProbe() instanceof MinioContentTypeProbeTikaAdapter, () -> "Tika is on the test classpath");
+    }
+
+    private static MinioItem item(final MinioOperations oper, final String name, final long size)
+    {
+        return new MinioItem(name, "bucket", size, true, "etag", "application/octet-stream", () -> new Date(), "STANDARD", oper);
+    }
+
+    private static MinioObjectStatus status(final String name)
+    {
+        final long size = name.endsWith(".iso") ? HUGE : name.endsWith(".bin") ? PNG.length : 5L;
+
+        final String kind = name.endsWith(".txt") ? "text/plain" : "application/octet-stream";
+
+        return new MinioObjectStatus(name, "bucket", size, kind, kind, "etag", () -> new Date(), Collections.emptyMap());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.content.MinioContentTypeTable;
+import co.mercenary.creators.minio.util.MinioUtils;
+
+public class MinioContentTypeTableTest
+{
+    @Test
+    void test() throws Exception
+    {
+        final Map<String, String> types = MinioContentTypeTable.readMimeTypes(new LinkedHashMap<>(), new ByteArrayInputStream("# comment\nimage/png png\nimage/jpeg jpeg jpg JPE # trailing\ntext/x-old png\n".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("text/x-old", types.get("png"), () -> "later lines win");
+
+        assertEquals("image/jpeg", types.get("jpe"), () -> "extensions are lower cased");
+
+        final MinioContentTypeTable table = new MinioContentTypeTable(types);
+
+        assertEquals(4, table.size(), () -> "size");
+
+        assertEquals("image/jpeg", table.getContentType("a/b/photo.JPG"), () -> "case-insensitive lookup");
+
+        assertEquals("image/jpeg", table.getContentType("photo.jpeg"), () -> "second extension");
+
+        assertNull(table.getContentType("photo.jp"), () -> "prefix of an extension");
+
+        assertNull(table.getContentType("photo.jpegs"), () -> "extension of an extension");
+
+        assertNull(table.getContentType("dir.png/file"), () -> "dot in a directory");
+
+        assertNull(table.getContentType("file."), () -> "trailing dot");
+
+        assertNull(table.getContentType("png"), () -> "no dot");
+
+        assertNull(table.getContentType(null), () -> "null");
+    }
+
+    @Test
+    void many() throws Exception
+    {
+        final Map<String, String> many = new LinkedHashMap<>();
+
+        for (int i = 0; i < 5000; i++)
+        {
+            many.put("x" + i, "application/x-" + i);
+        }
+        final MinioContentTypeTable table = new MinioContentTypeTable(many);
+
+        for (int i = 0; i < 5000; i++)
+        {
+            final int find = i;
+
+            assertEquals("application/x-" + i, table.getContentType("name.X" + i), () -> "lookup " + find);
+        }
+        assertEquals(MinioUtils.getJSONContentType(), MinioContentTypeTable.getDefault().getContentType("data.json"), () -> "common override");
+
+        assertEquals("image/png", MinioContentTypeTable.getDefault().getContentType("image.PNG"), () -> "bundled mime.types");
+    }
+}
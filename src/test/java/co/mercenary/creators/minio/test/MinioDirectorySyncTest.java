@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.DigestUtils;
+
+import co.mercenary.creators.minio.MinioOperations;
+import co.mercenary.creators.minio.batch.MinioDirectorySync;
+import co.mercenary.creators.minio.batch.MinioSyncAction;
+import co.mercenary.creators.minio.batch.MinioSyncReport;
+import co.mercenary.creators.minio.data.MinioItemSummary;
+
+public class MinioDirectorySyncTest
+{
+    @Test
+    void test() throws Exception
+    {
+        final Path root = Files.createTempDirectory("sync");
+
+        try
+        {
+            final byte[] data = "hello".getBytes(StandardCharsets.UTF_8);
+
+            Files.write(root.resolve("a.txt"), data);
+
+            Files.write(root.resolve("b.txt"), data);
+
+            Files.write(root.resolve("d.txt"), data);
+
+            Files.createDirectories(root.resolve("sub"));
+
+            Files.write(root.resolve("sub").resolve("c.txt"), data);
+
+            final long time = System.currentTimeMillis() + 60000L;
+
+            final MinioOperations oper = operations(Stream.of(new MinioItemSummary("data/a.txt", 5L, true, "x", time), new MinioItemSummary("data/b.txt", 5L, true, DigestUtils.md5DigestAsHex(data), 0L), new MinioItemSummary("data/d.txt", 4L, true, "x", time), new MinioItemSummary("data/z.txt", 1L, true, "x", time)));
+
+            final Map<String, MinioSyncAction> seen = new ConcurrentHashMap<>();
+
+            final MinioSyncReport report = new MinioDirectorySync(oper, root, "bucket", "data").setDryRun(true).setDeleteExtraneous(true).setListener((action, name) -> seen.put(name, action)).sync();
+
+            assertTrue(report.isSuccessful(), () -> report.getFailures().toString());
+
+            assertEquals(1L, report.getUploaded(), () -> "uploaded");
+
+            assertEquals(1L, report.getUpdated(), () -> "updated");
+
+            assertEquals(1L, report.getDeleted(), () -> "deleted");
+
+            assertEquals(2L, report.getSkipped(), () -> "skipped");
+
+            assertEquals(MinioSyncAction.SKIP, seen.get("data/a.txt"), () -> "quick check");
+
+            assertEquals(MinioSyncAction.SKIP, seen.get("data/b.txt"), () -> "checksum");
+
+            assertEquals(MinioSyncAction.UPDATE, seen.get("data/d.txt"), () -> "size");
+
+            assertEquals(MinioSyncAction.UPLOAD, seen.get("data/sub/c.txt"), () -> "new");
+
+            assertEquals(MinioSyncAction.DELETE, seen.get("data/z.txt"), () -> "extraneous");
+        }
+        finally
+        {
+            try (Stream<Path> walk = Files.walk(root))
+            {
+                walk.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static MinioOperations operations(final Stream<MinioItemSummary> remote)
+    {
+        return (MinioOperations) Proxy.newProxyInstance(MinioOperations.class.getClassLoader(), new Class<?>[] { MinioOperations.class }, (self, method, args) -> {
+
+            switch (method.getName())
+            {
+                case "isBucket":
+                    return Boolean.TRUE;
+                case "findItemSummaries":
+                    return remote;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
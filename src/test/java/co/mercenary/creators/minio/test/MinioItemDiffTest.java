@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.data.MinioItemSummary;
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+import co.mercenary.creators.minio.index.MinioItemChange;
+import co.mercenary.creators.minio.index.MinioItemDiff;
+
+public class MinioItemDiffTest
+{
+    @Test
+    void test() throws Exception
+    {
+        final AtomicInteger closed = new AtomicInteger();
+
+        final Stream<MinioItemSummary> before = Stream.of(item("a", 1L, "x"), item("b", 2L, "y"), item("d", 4L, "z"), item("e", 5L, null)).onClose(closed::incrementAndGet);
+
+        final Stream<MinioItemSummary> after = Stream.of(item("b", 2L, "y"), item("c", 3L, "w"), item("d", 4L, "q"), item("e", 5L, "v")).onClose(closed::incrementAndGet);
+
+        final List<String> list;
+
+        try (Stream<MinioItemChange> diff = MinioItemDiff.diff(before, after))
+        {
+            list = diff.map(change -> change.getType() + ":" + change.getName()).collect(Collectors.toList());
+        }
+        assertEquals("[REMOVED:a, ADDED:c, MODIFIED:d]", list.toString(), () -> "changes");
+
+        assertEquals(2, closed.get(), () -> "both inputs closed");
+    }
+
+    @Test
+    void order() throws Exception
+    {
+        try (Stream<MinioItemChange> diff = MinioItemDiff.diff(Stream.of(item("b", 1L, null), item("a", 1L, null)), Stream.empty()))
+        {
+            assertThrows(MinioRuntimeException.class, diff::count);
+        }
+    }
+
+    @Test
+    void same() throws Exception
+    {
+        assertTrue(MinioItemDiff.isSameEtagAndSize(item("a", 1L, null), item("a", 1L, "x")), () -> "missing etag");
+
+        try (Stream<MinioItemChange> diff = MinioItemDiff.diff(Stream.of(item("a", 1L, "x")), Stream.of(item("a", 1L, "y")), (a, b) -> a.getSize() == b.getSize()))
+        {
+            assertEquals(0L, diff.count(), () -> "size only");
+        }
+    }
+
+    private static MinioItemSummary item(final String name, final long size, final String etag)
+    {
+        return new MinioItemSummary(name, size, true, etag);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.data.MinioItemSummary;
+import co.mercenary.creators.minio.errors.MinioDataException;
+import co.mercenary.creators.minio.index.MinioItemIndex;
+import co.mercenary.creators.minio.index.MinioItemIndexWriter;
+
+public class MinioItemIndexTest
+{
+    @Test
+    void test() throws Exception
+    {
+        final Path path = Files.createTempFile("index", ".idx");
+
+        try
+        {
+            final long many = MinioItemIndexWriter.write(path, Stream.of(new MinioItemSummary("a/", 0L, false, null), new MinioItemSummary("a/b.txt", 10L, true, "e1", 1000L), new MinioItemSummary("a/c.txt", 30L, true, "e2", -5L), new MinioItemSummary("b.bin", 20L, true, null)));
+
+            assertEquals(4L, many, () -> "written");
+
+            final MinioItemIndex index = MinioItemIndex.open(path);
+
+            final Stream<MinioItemSummary> open;
+
+            try
+            {
+                assertEquals(4L, index.size(), () -> "size");
+
+                final Optional<MinioItemSummary> item = index.findItem("a/c.txt");
+
+                assertTrue(item.isPresent(), () -> "a/c.txt");
+
+                assertEquals(new MinioItemSummary("a/c.txt", 30L, true, "e2", -5L), item.get(), () -> "a/c.txt fields");
+
+                assertFalse(index.findItem("a/d.txt").isPresent(), () -> "a/d.txt");
+
+                try (Stream<MinioItemSummary> list = index.findItems("a/"))
+                {
+                    assertEquals(3L, list.count(), () -> "prefix a/");
+                }
+                try (Stream<MinioItemSummary> list = index.findItems("a/b", "b"))
+                {
+                    assertEquals(2L, list.count(), () -> "range a/b..b");
+                }
+                final List<String> most = index.findLargest(2).stream().map(MinioItemSummary::getName).collect(Collectors.toList());
+
+                assertEquals(2, most.size(), () -> "largest size");
+
+                assertEquals("a/c.txt", most.get(0), () -> "largest first");
+
+                assertEquals(60L, index.getTotalSize(null), () -> "total");
+
+                open = index.findItems();
+            }
+            finally
+            {
+                index.close();
+            }
+            assertEquals(4L, open.count(), () -> "open stream after close");
+
+            open.close();
+
+            assertTrue(index.isClosed(), () -> "closed");
+
+            assertThrows(IllegalStateException.class, () -> index.findItem("a/b.txt"));
+        }
+        finally
+        {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    void order() throws Exception
+    {
+        final Path path = Files.createTempFile("index", ".idx");
+
+        try
+        {
+            assertThrows(MinioDataException.class, () -> MinioItemIndexWriter.write(path, Stream.of(new MinioItemSummary("b", 1L, true, null), new MinioItemSummary("a", 1L, true, null))));
+        }
+        finally
+        {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.MinioOperations;
+import co.mercenary.creators.minio.batch.MinioUploadReaper;
+import co.mercenary.creators.minio.data.MinioBatchReport;
+import co.mercenary.creators.minio.data.MinioUpload;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MinioUploadReaperTest
+{
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    private final List<MinioUpload> pending = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<String>      aborted = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicInteger     listing = new AtomicInteger();
+
+    @Test
+    void test() throws Exception
+    {
+        final MinioOperations oper = operations();
+
+        pending.add(upload(oper, "a", "a1", 30L));
+
+        pending.add(upload(oper, "a", "a2", 20L));
+
+        pending.add(upload(oper, "b", "b1", 30L));
+
+        pending.add(upload(oper, "b", "b2", 0L));
+
+        pending.add(upload(oper, "c", "c1", 30L));
+
+        final MinioBatchReport dry = new MinioUploadReaper(oper).setBuckets(Collections.singletonList("bucket")).setDryRun(true).reap();
+
+        assertEquals(3L, dry.getCount(), () -> "stale and abortable");
+
+        assertTrue(aborted.isEmpty(), () -> "dry run aborts nothing");
+
+        assertEquals(1, listing.get(), () -> "one listing for the bucket");
+
+        final MinioBatchReport report = new MinioUploadReaper(oper).setBuckets(Collections.singletonList("bucket")).setThreads(1).reap();
+
+        assertEquals(3L, report.getCount(), () -> "stale and abortable");
+
+        assertEquals(Arrays.asList("a2", "a1"), aborted.stream().filter(upid -> upid.startsWith("a")).collect(Collectors.toList()), () -> "newest stale upload first");
+
+        assertTrue(aborted.stream().noneMatch(upid -> upid.startsWith("b")), () -> "fresh upload on the same key is never aborted");
+
+        assertTrue(aborted.stream().noneMatch(upid -> upid.startsWith("c")), () -> "key changed before the abort");
+
+        assertEquals(2L, report.getSucceeded(), () -> "exactly what was aborted");
+
+        assertEquals(1L, report.getFailed(), () -> report.getFailures().toString());
+
+        assertEquals("c", report.getFailures().get(0).getName(), () -> "changed key");
+    }
+
+    private MinioOperations operations()
+    {
+        return (MinioOperations) Proxy.newProxyInstance(MinioOperations.class.getClassLoader(), new Class<?>[] { MinioOperations.class }, (self, method, args) -> {
+
+            switch (method.getName())
+            {
+                case "getIncompleteUploads":
+                    assertEquals(Boolean.FALSE, args[3], () -> "part sizes are not listed");
+                    final String prefix = (null == args[1]) ? "" : args[1].toString();
+                    if (prefix.isEmpty())
+                    {
+                        listing.incrementAndGet();
+                    }
+                    else if (prefix.equals("c"))
+                    {
+                        pending.add(upload((MinioOperations) self, "c", "c2", 0L));
+                    }
+                    synchronized (pending)
+                    {
+                        return new ArrayList<>(pending).stream().filter(upload -> upload.getName().startsWith(prefix));
+                    }
+                case "removeUpload":
+                    synchronized (pending)
+                    {
+                        final MinioUpload last = pending.stream().filter(upload -> upload.getName().equals(args[1])).max(Comparator.comparing(upload -> upload.getInitiated().get())).get();
+                        pending.remove(last);
+                        aborted.add(last.getUploadId());
+                    }
+                    return Boolean.TRUE;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static MinioUpload upload(final MinioOperations oper, final String name, final String upid, final long days)
+    {
+        final Date time = new Date(System.currentTimeMillis() - (days * DAY));
+
+        return new MinioUpload(name, "bucket", upid, 0L, () -> time, oper);
+    }
+}
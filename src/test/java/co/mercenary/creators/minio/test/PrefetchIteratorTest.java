@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.util.PrefetchIterator;
+
+public class PrefetchIteratorTest
+{
+    @Test
+    void lazy() throws Exception
+    {
+        final AtomicInteger pulls = new AtomicInteger();
+
+        final Iterator<Integer> source = Stream.iterate(0, i -> i + 1).limit(5).peek(i -> pulls.incrementAndGet()).iterator();
+
+        try (Stream<Integer> list = new PrefetchIterator<>(source, 2, 1).stream())
+        {
+            Thread.sleep(100L);
+
+            assertEquals(0, pulls.get(), () -> "nothing pulled before the first hasNext");
+
+            assertEquals(Arrays.asList(0, 1, 2, 3, 4), list.collect(Collectors.toList()), () -> "prefetch order");
+        }
+    }
+}
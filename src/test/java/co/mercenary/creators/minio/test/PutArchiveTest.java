@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.StreamUtils;
+
+import co.mercenary.creators.minio.MinioTemplate;
+import co.mercenary.creators.minio.data.MinioBatchReport;
+import co.mercenary.creators.minio.data.MinioUserMetaData;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import io.minio.ServerSideEncryption;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PutArchiveTest
+{
+    private static final int HUGE = 9 * 1024 * 1024;
+
+    @Test
+    void test() throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ZipOutputStream zip = new ZipOutputStream(bytes))
+        {
+            zip.putNextEntry(new ZipEntry("dir/"));
+
+            zip.closeEntry();
+
+            zip.putNextEntry(new ZipEntry("dir/small.txt"));
+
+            zip.write("hello".getBytes(StandardCharsets.US_ASCII));
+
+            zip.closeEntry();
+
+            zip.putNextEntry(new ZipEntry("../escape.txt"));
+
+            zip.write("nope".getBytes(StandardCharsets.US_ASCII));
+
+            zip.closeEntry();
+
+            zip.putNextEntry(new ZipEntry("big.bin"));
+
+            zip.write(new byte[HUGE]);
+
+            zip.closeEntry();
+        }
+        final Map<String, Long> sizes = new ConcurrentHashMap<>();
+
+        final Map<String, Boolean> buffered = new ConcurrentHashMap<>();
+
+        final MinioTemplate oper = new MinioTemplate("http://localhost:9000", "access", "secret", null)
+        {
+            @Override
+            public boolean ensureBucket(final String bucket)
+            {
+                return false;
+            }
+
+            @Override
+            protected void putObjectUnchecked(final String bucket, final String name, final InputStream input, final Long size, final String type, final MinioUserMetaData meta, final ServerSideEncryption keys) throws MinioOperationException
+            {
+                buffered.put(name, input instanceof ByteArrayInputStream);
+
+                try
+                {
+                    sizes.put(name, (long) StreamUtils.copyToByteArray(input).length);
+                }
+                catch (final Exception e)
+                {
+                    throw new MinioOperationException(e);
+                }
+            }
+        };
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        final InputStream input = new ByteArrayInputStream(bytes.toByteArray())
+        {
+            @Override
+            public void close()
+            {
+                closed.set(true);
+            }
+        };
+        final MinioBatchReport report = oper.putArchive("bucket", "up/", input);
+
+        assertEquals(2L, report.getCount(), () -> "file entries");
+
+        assertEquals(2L, report.getSucceeded(), () -> report.getFailures().toString());
+
+        final Map<String, Long> expect = new TreeMap<>();
+
+        expect.put("up/big.bin", (long) HUGE);
+
+        expect.put("up/dir/small.txt", 5L);
+
+        assertEquals(expect, new TreeMap<>(sizes), () -> "uploaded entries, directory and escaping entry skipped");
+
+        assertTrue(buffered.get("up/dir/small.txt"), () -> "small entry buffered");
+
+        assertFalse(buffered.get("up/big.bin"), () -> "large entry streamed");
+
+        assertFalse(closed.get(), () -> "caller's stream left open");
+    }
+}
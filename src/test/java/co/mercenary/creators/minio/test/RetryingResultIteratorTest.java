@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+import co.mercenary.creators.minio.util.RetryingResultIterator;
+import io.minio.Result;
+import io.minio.errors.InvalidBucketNameException;
+import io.minio.errors.NoResponseException;
+
+public class RetryingResultIteratorTest
+{
+    private static final String FAIL = null;
+
+    @Test
+    void prefixes() throws Exception
+    {
+        assertEquals(Arrays.asList("b.txt", "a/", "c/"), list(Arrays.asList("b.txt", "a/", "c/")), () -> "objects before prefixes");
+    }
+
+    @Test
+    void boundary() throws Exception
+    {
+        assertEquals(Arrays.asList("b.txt", "a/", "d.txt", "c1/"), list(Arrays.asList("b.txt", "a/", FAIL), Arrays.asList("b.txt", "a/", "d.txt", "c1/")), () -> "failure between pages");
+    }
+
+    @Test
+    void middle() throws Exception
+    {
+        assertEquals(Arrays.asList("b.txt", "a/", "c/"), list(Arrays.asList("b.txt", FAIL), Arrays.asList("b.txt", "a/", "c/")), () -> "failure inside a page");
+    }
+
+    @Test
+    void twice() throws Exception
+    {
+        assertEquals(Arrays.asList("a", "b/", "c", "d"), list(Arrays.asList("a", FAIL), Arrays.asList("a", "b/", FAIL), Arrays.asList("a", "b/", "c", "d")), () -> "two failures");
+    }
+
+    @Test
+    void deleted() throws Exception
+    {
+        assertEquals(Arrays.asList("a", "b", "c"), list(Arrays.asList("a", "b", FAIL), Arrays.asList("a", "c")), () -> "last key deleted before the retry");
+    }
+
+    @Test
+    void exhausted() throws Exception
+    {
+        assertThrows(MinioRuntimeException.class, () -> list(Arrays.asList("a", FAIL), Arrays.asList("a", FAIL), Arrays.asList("a", FAIL), Arrays.asList("a", FAIL), Arrays.asList("a", FAIL)));
+    }
+
+    @Test
+    void fatal() throws Exception
+    {
+        final Deque<Iterable<Result<String>>> pages = new ArrayDeque<>();
+
+        pages.add(Arrays.asList(new Result<>("a", null), new Result<>(null, new InvalidBucketNameException("bucket", "bad"))));
+
+        final RetryingResultIterator<String> iter = new RetryingResultIterator<>(pages::remove, Function.identity(), 3, 0L);
+
+        assertEquals("a", iter.next(), () -> "first");
+
+        assertThrows(MinioRuntimeException.class, iter::hasNext);
+    }
+
+    @SafeVarargs
+    private static List<String> list(final List<String>... runs)
+    {
+        final Deque<Iterable<Result<String>>> pages = new ArrayDeque<>();
+
+        for (final List<String> run : runs)
+        {
+            final List<Result<String>> page = new ArrayList<>();
+
+            for (final String name : run)
+            {
+                page.add((null == name) ? new Result<>(null, new NoResponseException()) : new Result<>(name, null));
+            }
+            pages.add(page);
+        }
+        return new RetryingResultIterator<>(pages::remove, Function.identity(), 3, 0L).stream().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.MinioTemplate;
+import co.mercenary.creators.minio.data.MinioBatchReport;
+import co.mercenary.creators.minio.data.MinioUserMetaData;
+import co.mercenary.creators.minio.errors.MinioOperationException;
+import io.minio.CopyConditions;
+import io.minio.MinioClient;
+import io.minio.ObjectStat;
+import io.minio.ResponseHeader;
+import io.minio.Result;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import io.minio.messages.Item;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import static co.mercenary.creators.minio.util.ListingMinioTemplate.file;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RewriteUserMetaDataTest
+{
+    private final Map<String, AtomicInteger>       tries  = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, String>> writes = new ConcurrentHashMap<>();
+
+    @Test
+    void once() throws Exception
+    {
+        template(1, "NoSuchKey").addUserMetaData("bucket", "a.txt", new MinioUserMetaData("added", "2"));
+
+        assertEquals(2, tries.get("a.txt").get(), () -> "retried once");
+
+        assertEquals("1", writes.get("a.txt").get("x-amz-meta-Kept"), () -> "existing metadata merged");
+
+        assertEquals("2", writes.get("a.txt").get("x-amz-meta-added"), () -> "new metadata added");
+
+        assertEquals("text/plain", writes.get("a.txt").get("Content-Type"), () -> "content type kept");
+    }
+
+    @Test
+    void always() throws Exception
+    {
+        assertThrows(MinioOperationException.class, () -> template(Integer.MAX_VALUE, "NoSuchKey").addUserMetaData("bucket", "a.txt", new MinioUserMetaData("added", "2")), () -> "gives up");
+
+        assertEquals(6, tries.get("a.txt").get(), () -> "first attempt and five retries");
+    }
+
+    @Test
+    void bulk() throws Exception
+    {
+        final MinioTemplate oper = template(1, "gone.txt");
+
+        final MinioBatchReport report = oper.setUserMetaData("bucket", Stream.of("a.txt", "b.txt", "gone.txt"), new MinioUserMetaData("added", "2"));
+
+        assertEquals(3L, report.getCount(), () -> "named");
+
+        assertEquals(2L, report.getSucceeded(), () -> report.getFailures().toString());
+
+        assertEquals("gone.txt", report.getFailures().get(0).getName(), () -> "other errors are not retried");
+
+        assertEquals(1, tries.get("gone.txt").get(), () -> "tried once");
+
+        assertEquals(null, writes.get("a.txt").get("x-amz-meta-Kept"), () -> "set replaces metadata");
+
+        tries.clear();
+
+        writes.clear();
+
+        final MinioBatchReport prefix = oper.addUserMetaDataPrefix("bucket", "data/", new MinioUserMetaData("added", "3"));
+
+        assertEquals(2L, prefix.getSucceeded(), () -> prefix.getFailures().toString());
+
+        assertEquals("3", writes.get("data/c.txt").get("x-amz-meta-added"), () -> "prefix item rewritten");
+
+        assertEquals("1", writes.get("data/d.txt").get("x-amz-meta-Kept"), () -> "prefix item merged");
+    }
+
+    private MinioTemplate template(final int failing, final String missing) throws Exception
+    {
+        final MinioClient client = new MinioClient("http://localhost:9000", "access", "secret")
+        {
+            @Override
+            public ObjectStat statObject(final String bucket, final String name)
+            {
+                final ResponseHeader head = new ResponseHeader();
+
+                head.setContentLength("10");
+
+                head.setContentType("text/plain");
+
+                head.setEtag("\"etag\"");
+
+                head.setLastModified("Mon, 01 Jan 2018 00:00:00 GMT");
+
+                final Map<String, List<String>> map = new LinkedHashMap<>();
+
+                map.put("Content-Type", Collections.singletonList("text/plain"));
+
+                map.put("X-Amz-Meta-Kept", Collections.singletonList("1"));
+
+                return new ObjectStat(bucket, name, head, map);
+            }
+
+            @Override
+            public void copyObject(final String bucket, final String name, final String target, final String object, final CopyConditions conditions, final Map<String, String> meta) throws ErrorResponseException
+            {
+                final int count = tries.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+
+                if (name.equals(missing))
+                {
+                    throw error("NoSuchKey");
+                }
+                if (count <= failing)
+                {
+                    throw error("PreconditionFailed");
+                }
+                writes.put(name, new LinkedHashMap<>(meta));
+            }
+
+            @Override
+            public Iterable<Result<Item>> listObjects(final String bucket, final String prefix, final boolean recursive)
+            {
+                return Arrays.asList(new Result<>(file("data/c.txt", 10L), null), new Result<>(file("data/d.txt", 10L), null));
+            }
+        };
+        return new MinioTemplate("http://localhost:9000", "access", "secret", null)
+        {
+            @Override
+            protected MinioClient getMinioClient()
+            {
+                return client;
+            }
+        };
+    }
+
+    private static ErrorResponseException error(final String code)
+    {
+        try
+        {
+            final ErrorResponse body = new ErrorResponse(new StringReader(String.format("<Error><Code>%s</Code><Message>%s</Message></Error>", code, code)));
+
+            return new ErrorResponseException(body, new Response.Builder().request(new Request.Builder().url("http://localhost:9000/bucket").build()).protocol(Protocol.HTTP_1_1).code(412).message(code).build());
+        }
+        catch (final Exception e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.MinioTemplate;
+import co.mercenary.creators.minio.util.MinioUtils;
+import io.minio.MinioClient;
+
+public class SniffContentTypeTest
+{
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13, 'I', 'H', 'D', 'R' };
+
+    @Test
+    void test() throws Exception
+    {
+        final Map<String, String> types = new ConcurrentHashMap<>();
+
+        final Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+
+        final MinioClient client = new MinioClient("http://localhost:9000", "access", "secret")
+        {
+            @Override
+            public void putObject(final String bucket, final String name, final InputStream input, final String type)
+            {
+                try
+                {
+                    bodies.put(name, MinioUtils.readInputStream(input, 1024));
+
+                    types.put(name, type);
+                }
+                catch (final IOException e)
+                {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        final MinioTemplate oper = new MinioTemplate("http://localhost:9000", "access", "secret", null)
+        {
+            @Override
+            protected MinioClient getMinioClient()
+            {
+                return client;
+            }
+
+            @Override
+            public boolean ensureBucket(final String bucket)
+            {
+                return false;
+            }
+        };
+        oper.setContentSniffing(MinioTemplate.DEFAULT_SNIFF_SIZE);
+
+        oper.putObject("bucket", "blob", PNG, (String) null);
+
+        assertEquals("image/png", types.get("blob"), () -> "sniffed type");
+
+        assertArrayEquals(PNG, bodies.get("blob"), () -> "sniffed bytes are still sent");
+
+        oper.putObject("bucket", "named", PNG, "application/x-custom");
+
+        assertEquals(oper.getContentTypeProbe().getContentType("application/x-custom", "named"), types.get("named"), () -> "explicit type is not sniffed");
+
+        oper.setContentSniffing(0);
+
+        oper.putObject("bucket", "plain", PNG, (String) null);
+
+        assertEquals(MinioUtils.getDefaultContentType(), types.get("plain"), () -> "sniffing off");
+
+        assertEquals(3, MinioUtils.readInputStream(new ByteArrayInputStream(Arrays.copyOf(PNG, 3)), 8).length, () -> "short stream");
+    }
+}
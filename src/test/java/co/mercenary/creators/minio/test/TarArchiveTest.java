@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.io.ArchiveEntry;
+import co.mercenary.creators.minio.io.ArchiveFormat;
+import co.mercenary.creators.minio.io.ArchiveReader;
+import co.mercenary.creators.minio.io.ArchiveWriter;
+
+public class TarArchiveTest
+{
+    private static final String USTAR = "ustar\u000000";
+
+    private static final String GNU   = "ustar  \u0000";
+
+    @Test
+    void writer() throws Exception
+    {
+        final String name = String.join("/", "deep", toRepeat('d', 120), "file.txt");
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ArchiveWriter writer = ArchiveWriter.open(bytes, ArchiveFormat.TAR))
+        {
+            for (final String path : Arrays.asList("a.txt", name))
+            {
+                final byte[] data = path.getBytes(StandardCharsets.UTF_8);
+
+                try (OutputStream output = writer.putEntry(path, data.length, 0L))
+                {
+                    output.write(data);
+                }
+                writer.closeEntry();
+            }
+        }
+        assertEquals(Arrays.asList("a.txt", name), readNames(bytes.toByteArray()), () -> "round trip with a GNU long name");
+    }
+
+    @Test
+    void ustar() throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        final byte[] head = toHeader("file.txt", 5L, '0', USTAR);
+
+        System.arraycopy("some/prefix".getBytes(StandardCharsets.US_ASCII), 0, head, 345, 11);
+
+        bytes.write(toChecksum(head));
+
+        toBody(bytes, "hello".getBytes(StandardCharsets.US_ASCII));
+
+        bytes.write(new byte[1024]);
+
+        assertEquals(Arrays.asList("some/prefix/file.txt"), readNames(bytes.toByteArray()), () -> "ustar prefix");
+    }
+
+    @Test
+    void gnu() throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        final byte[] head = toHeader("file.txt", 5L, '0', GNU);
+
+        System.arraycopy("13475310023".getBytes(StandardCharsets.US_ASCII), 0, head, 345, 11);
+
+        bytes.write(toChecksum(head));
+
+        toBody(bytes, "hello".getBytes(StandardCharsets.US_ASCII));
+
+        bytes.write(new byte[1024]);
+
+        assertEquals(Arrays.asList("file.txt"), readNames(bytes.toByteArray()), () -> "GNU atime is not a prefix");
+    }
+
+    @Test
+    void pax() throws Exception
+    {
+        final String name = toRepeat('p', 150) + ".txt";
+
+        final byte[] data = "pax sized".getBytes(StandardCharsets.US_ASCII);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        final byte[] pax = toPaxRecord("size", Integer.toString(data.length));
+
+        bytes.write(toChecksum(toHeader("PaxHeaders/x", pax.length, 'x', USTAR)));
+
+        toBody(bytes, pax);
+
+        final byte[] path = (name + "\u0000").getBytes(StandardCharsets.US_ASCII);
+
+        bytes.write(toChecksum(toHeader("././@LongLink", path.length, 'L', GNU)));
+
+        toBody(bytes, path);
+
+        bytes.write(toChecksum(toHeader("truncated", 0L, '0', GNU)));
+
+        toBody(bytes, data);
+
+        bytes.write(new byte[1024]);
+
+        try (ArchiveReader reader = ArchiveReader.open(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            final ArchiveEntry entry = reader.next();
+
+            assertEquals(name, entry.getName(), () -> "GNU long name after pax header");
+
+            assertEquals(data.length, entry.getSize(), () -> "pax size applies to the entry");
+
+            assertEquals("pax sized", new String(readBody(reader, (int) entry.getSize()), StandardCharsets.US_ASCII), () -> "entry body");
+
+            assertNull(reader.next(), () -> "end of archive");
+        }
+    }
+
+    private static List<String> readNames(final byte[] bytes) throws IOException
+    {
+        final List<String> list = new ArrayList<>();
+
+        try (ArchiveReader reader = ArchiveReader.open(new ByteArrayInputStream(bytes)))
+        {
+            ArchiveEntry entry;
+
+            while (null != (entry = reader.next()))
+            {
+                list.add(entry.getName());
+
+                readBody(reader, (int) entry.getSize());
+            }
+        }
+        return list;
+    }
+
+    private static byte[] readBody(final ArchiveReader reader, final int size) throws IOException
+    {
+        final byte[] data = new byte[size];
+
+        int read = 0;
+
+        while (read < size)
+        {
+            final int leng = reader.getInputStream().read(data, read, size - read);
+
+            if (leng < 0)
+            {
+                break;
+            }
+            read += leng;
+        }
+        assertEquals(-1, reader.getInputStream().read(), () -> "entry ends at its size");
+
+        return data;
+    }
+
+    private static byte[] toHeader(final String name, final long size, final char type, final String magic)
+    {
+        final byte[] block = new byte[512];
+
+        final byte[] path = name.getBytes(StandardCharsets.US_ASCII);
+
+        System.arraycopy(path, 0, block, 0, Math.min(100, path.length));
+
+        toOctal(block, 100, 8, 0644L);
+
+        toOctal(block, 124, 12, size);
+
+        toOctal(block, 136, 12, 0L);
+
+        block[156] = (byte) type;
+
+        System.arraycopy(magic.getBytes(StandardCharsets.US_ASCII), 0, block, 257, 8);
+
+        return block;
+    }
+
+    private static byte[] toChecksum(final byte[] block)
+    {
+        Arrays.fill(block, 148, 156, (byte) ' ');
+
+        long sum = 0L;
+
+        for (final byte b : block)
+        {
+            sum += (b & 0xFF);
+        }
+        toOctal(block, 148, 7, sum);
+
+        return block;
+    }
+
+    private static void toOctal(final byte[] block, final int offset, final int length, final long value)
+    {
+        final String text = Long.toOctalString(value);
+
+        final String full = toRepeat('0', Math.max(0, length - 1 - text.length())) + text;
+
+        System.arraycopy(full.getBytes(StandardCharsets.US_ASCII), 0, block, offset, length - 1);
+
+        block[offset + length - 1] = 0;
+    }
+
+    private static void toBody(final ByteArrayOutputStream bytes, final byte[] data) throws IOException
+    {
+        bytes.write(data);
+
+        bytes.write(new byte[(512 - (data.length % 512)) % 512]);
+    }
+
+    private static byte[] toPaxRecord(final String key, final String value)
+    {
+        final String body = " " + key + "=" + value + "\n";
+
+        int leng = body.length() + 1;
+
+        while (Integer.toString(leng).length() + body.length() != leng)
+        {
+            leng++;
+        }
+        return (leng + body).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String toRepeat(final char c, final int many)
+    {
+        final char[] list = new char[many];
+
+        Arrays.fill(list, c);
+
+        return new String(list);
+    }
+}
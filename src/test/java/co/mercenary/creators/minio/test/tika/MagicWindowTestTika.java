@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package co.mercenary.creators.minio.test.tika;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.tika.Tika;
+import org.apache.tika.detect.Detector;
+import org.junit.jupiter.api.Test;
+
+import co.mercenary.creators.minio.content.tika.MinioContentTypeProbeTikaAdapter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MagicWindowTestTika
+{
+    private static final int WINDOW = 64;
+
+    @Test
+    void test() throws Exception
+    {
+        final byte[] data = new byte[64 * 1024];
+
+        final byte[] head = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13, 'I', 'H', 'D', 'R' };
+
+        System.arraycopy(head, 0, data, 0, head.length);
+
+        final MinioContentTypeProbeTikaAdapter probe = new MinioContentTypeProbeTikaAdapter();
+
+        final String full = probe.getContentType(new ByteArrayInputStream(data));
+
+        assertEquals("image/png", full, () -> "unbounded detection");
+
+        probe.setMagicWindow(WINDOW);
+
+        assertEquals(full, probe.getContentType(data), () -> "windowed bytes");
+
+        final CountingInputStream count = new CountingInputStream(data);
+
+        assertEquals(full, probe.getContentType(count), () -> "windowed stream");
+
+        assertEquals(WINDOW, count.read, () -> "nothing read past the window");
+
+        final ByteArrayInputStream mark = new ByteArrayInputStream(data);
+
+        probe.getContentType(mark);
+
+        assertEquals(0x89, mark.read(), () -> "marked stream is reset");
+
+        final AtomicInteger made = new AtomicInteger();
+
+        final AtomicInteger seen = new AtomicInteger();
+
+        final Detector detector = new Tika().getDetector();
+
+        probe.setDetectorFactory(() -> {
+
+            made.incrementAndGet();
+
+            return (input, meta) -> {
+
+                final byte[] peek = new byte[data.length];
+
+                input.mark(peek.length);
+
+                int leng = 0;
+
+                for (int read; (read = input.read(peek, leng, peek.length - leng)) > 0;)
+                {
+                    leng += read;
+                }
+                input.reset();
+
+                seen.set(leng);
+
+                return detector.detect(input, meta);
+            };
+        });
+        assertEquals(full, probe.getContentType(new CountingInputStream(data)), () -> "factory detector");
+
+        assertEquals(full, probe.getContentType(new CountingInputStream(data)), () -> "factory detector reused");
+
+        assertEquals(1, made.get(), () -> "one detector per thread");
+
+        assertTrue(seen.get() <= WINDOW, () -> "detector sees only the window");
+    }
+
+    private static final class CountingInputStream extends InputStream
+    {
+        private final byte[] data;
+
+        private int          read;
+
+        CountingInputStream(final byte[] data)
+        {
+            this.data = data;
+        }
+
+        @Override
+        public int read()
+        {
+            return (read < data.length) ? (data[read++] & 0xFF) : -1;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2018, Mercenary Creators Company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package co.mercenary.creators.minio.util;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.xmlpull.v1.XmlPullParserException;
+
+import co.mercenary.creators.minio.MinioTemplate;
+import co.mercenary.creators.minio.errors.MinioRuntimeException;
+import io.minio.MinioClient;
+import io.minio.Result;
+import io.minio.errors.InvalidBucketNameException;
+import io.minio.errors.MinioException;
+import io.minio.messages.DeleteError;
+import io.minio.messages.Item;
+import io.minio.messages.Upload;
+
+/*
+ * A template whose client answers listings from canned pages instead of a server, and records copies and removals, for tests that only need to list.
+ */
+public class ListingMinioTemplate extends MinioTemplate
+{
+    @NonNull
+    private final Map<String, List<Result<Item>>> pages = new ConcurrentHashMap<>();
+
+    @NonNull
+    private final List<String>                    copies  = Collections.synchronizedList(new ArrayList<>());
+
+    @NonNull
+    private final List<String>                    removed = Collections.synchronizedList(new ArrayList<>());
+
+    @NonNull
+    private final Set<String>                     failing = ConcurrentHashMap.newKeySet();
+
+    @NonNull
+    private final MinioClient                     client;
+
+    public ListingMinioTemplate()
+    {
+        super("http://localhost:9000", "access", "secret", null);
+
+        try
+        {
+            client = new MinioClient(getServer(), "access", "secret")
+            {
+                @Override
+                public Iterable<Result<Item>> listObjects(final String bucket, final String prefix, final boolean recursive)
+                {
+                    return pages.getOrDefault(toKey(bucket, prefix, recursive), Collections.emptyList());
+                }
+
+                @Override
+                public boolean bucketExists(final String bucket)
+                {
+                    return true;
+                }
+
+                @Override
+                public void copyObject(final String bucket, final String name, final String target, final String object) throws InvalidBucketNameException
+                {
+                    if (failing.contains(name))
+                    {
+                        throw new InvalidBucketNameException(bucket, String.format("copy failed (%s).", name));
+                    }
+                    copies.add(name + " -> " + target + "/" + object);
+                }
+
+                @Override
+                public Iterable<Result<DeleteError>> removeObject(final String bucket, final Iterable<String> names)
+                {
+                    names.forEach(removed::add);
+
+                    return Collections.emptyList();
+                }
+            };
+        }
+        catch (final MinioException e)
+        {
+            throw new MinioRuntimeException(e);
+        }
+    }
+
+    @NonNull
+    public ListingMinioTemplate setListing(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive, @NonNull final Item... items)
+    {
+        final List<Result<Item>> list = new ArrayList<>();
+
+        for (final Item item : items)
+        {
+            list.add(new Result<>(item, null));
+        }
+        pages.put(toKey(bucket, prefix, recursive), list);
+
+        return this;
+    }
+
+    @NonNull
+    public ListingMinioTemplate setFailure(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive, @NonNull final Exception failure)
+    {
+        pages.computeIfAbsent(toKey(bucket, prefix, recursive), key -> new ArrayList<>()).add(new Result<>(null, failure));
+
+        return this;
+    }
+
+    @NonNull
+    public ListingMinioTemplate setCopyFailure(@NonNull final String name)
+    {
+        failing.add(name);
+
+        return this;
+    }
+
+    @NonNull
+    public List<String> getCopies()
+    {
+        return copies;
+    }
+
+    @NonNull
+    public List<String> getRemoved()
+    {
+        return removed;
+    }
+
+    @NonNull
+    @Override
+    protected MinioClient getMinioClient()
+    {
+        return client;
+    }
+
+    @NonNull
+    public static Item file(@NonNull final String name, final long size)
+    {
+        try
+        {
+            final Item item = new Item();
+
+            item.parseXml(new StringReader(String.format("<Contents xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"><Key>%s</Key><LastModified>2018-01-01T00:00:00.000Z</LastModified><Size>%s</Size><ETag>\"%s\"</ETag></Contents>", name, size, Integer.toHexString(name.hashCode()))));
+
+            return item;
+        }
+        catch (final IOException | XmlPullParserException e)
+        {
+            throw new MinioRuntimeException(e);
+        }
+    }
+
+    @NonNull
+    public static Upload upload(@NonNull final String name, @NonNull final String id, @NonNull final String initiated)
+    {
+        try
+        {
+            final Upload upload = new Upload();
+
+            upload.parseXml(new StringReader(String.format("<Upload xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"><Key>%s</Key><UploadId>%s</UploadId><Initiated>%s</Initiated></Upload>", name, id, initiated)));
+
+            return upload;
+        }
+        catch (final IOException | XmlPullParserException e)
+        {
+            throw new MinioRuntimeException(e);
+        }
+    }
+
+    @NonNull
+    public static Item dir(@NonNull final String name)
+    {
+        try
+        {
+            return new Item(name, true);
+        }
+        catch (final XmlPullParserException e)
+        {
+            throw new MinioRuntimeException(e);
+        }
+    }
+
+    @NonNull
+    private static String toKey(@NonNull final String bucket, @Nullable final String prefix, final boolean recursive)
+    {
+        return bucket + "|" + MinioUtils.toStringOrElse(prefix, MinioUtils.EMPTY_STRING_VALUED) + "|" + recursive;
+    }
+}